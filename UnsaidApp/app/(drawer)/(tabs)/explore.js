@@ -39,14 +39,11 @@ const formatTimeAgo = (date) => {
 
 // --- 📦 COMPONENT: INDIVIDUAL STORY CARD ---
 const StoryItem = memo(({ story, onLike, onOpenComments, onOpenMenu, router }) => {
-  const [isExpanded, setIsExpanded] = useState(false);
   const [loadingMap, setLoadingMap] = useState({});
   const [currentImgIndex, setCurrentImgIndex] = useState(0);
   const galleryRef = useRef(null);
   const heartScale = useSharedValue(0);
 
-  const TEXT_LIMIT = 180;
-  const shouldShowReadMore = story.content && story.content.length > TEXT_LIMIT;
   const hasImages = story.imageUrls && story.imageUrls.length > 0;
   const cardContentWidth = SCREEN_WIDTH - 72; // Adjusted for padding/margins
 
@@ -114,24 +111,21 @@ const StoryItem = memo(({ story, onLike, onOpenComments, onOpenMenu, router }) =
 
         <View>
           <HashtagText
-            text={isExpanded || !shouldShowReadMore 
-              ? story.content 
-              : `${story.content.slice(0, TEXT_LIMIT)}...`}
+            text={story.excerpt}
             style={styles.contentBody}
             onPressHashtag={(tag) => router.push(`/hashtag/${tag}`)}
           />
           
-          {shouldShowReadMore && (
+          {/* The card only has the excerpt; the rest lives on the story page */}
+          {story.truncated && (
             <TouchableOpacity 
               onPress={(e) => {
                 e.stopPropagation(); 
-                setIsExpanded(!isExpanded);
+                handleViewStory();
               }}
               style={styles.readMoreButton}
             >
-              <Text style={styles.readMoreText}>
-                {isExpanded ? 'Show less' : 'See more'}
-              </Text>
+              <Text style={styles.readMoreText}>Read more</Text>
             </TouchableOpacity>
           )}
         </View>
@@ -201,18 +195,18 @@ const StoryItem = memo(({ story, onLike, onOpenComments, onOpenMenu, router }) =
       <View style={styles.actionRow}>
         <TouchableOpacity style={styles.iconButton} onPress={handlePressLike}>
           <FontAwesome 
-            name={story.hasReacted ? "heart" : "heart-o"} 
+            name={story.reactedByMe ? "heart" : "heart-o"} 
             size={22} 
-            color={story.hasReacted ? "#E53935" : "#455A64"} 
+            color={story.reactedByMe ? "#E53935" : "#455A64"} 
           />
-          <Text style={[styles.actionCount, story.hasReacted && { color: "#E53935" }]}>
+          <Text style={[styles.actionCount, story.reactedByMe && { color: "#E53935" }]}>
             {story.reactionsCount || 0}
           </Text>
         </TouchableOpacity>
         
         <TouchableOpacity style={styles.iconButton} onPress={() => onOpenComments(story.id)}>
           <Feather name="message-circle" size={22} color="#455A64" />
-          <Text style={styles.actionCount}>{story.comments?.length || 0}</Text>
+          <Text style={styles.actionCount}>{story.commentsCount || 0}</Text>
         </TouchableOpacity>
       </View>
     </View>
@@ -225,6 +219,7 @@ export default function ExploreScreen() {
 
   const [stories, setStories] = useState([]);
   const [page, setPage] = useState(0);
+  const [nextCursor, setNextCursor] = useState(null);
   const [loading, setLoading] = useState(false);
   const [refreshing, setRefreshing] = useState(false);
   const [loadingMore, setLoadingMore] = useState(false);
@@ -266,13 +261,14 @@ export default function ExploreScreen() {
     try {
       let res;
       if (query.trim().length > 0) {
-        res = await storyService.searchStories(query, pageToLoad, PAGE_SIZE);
+        res = await storyService.searchStories(query, pageToLoad === 0 ? null : nextCursor, PAGE_SIZE);
       } else {
-        res = await storyService.getStories(pageToLoad, PAGE_SIZE);
+        res = await storyService.getStories(pageToLoad === 0 ? null : nextCursor, PAGE_SIZE);
       }
       const data = res.data.content || [];
       setStories(prev => (pageToLoad === 0 ? data : [...prev, ...data]));
       setHasMore(!res.data.last);
+      setNextCursor(res.data.nextCursor);
       setPage(pageToLoad);
     } catch (e) {
       console.error('Failed to load stories', e);
@@ -292,12 +288,13 @@ export default function ExploreScreen() {
       Alert.alert('Login required', 'Please login to like ❤️');
       return;
     }
+    const wasLiked = stories.find(s => s.id === storyId)?.reactedByMe;
     setStories(prev => prev.map(s => {
       if (s.id === storyId) {
-        const isCurrentlyLiked = s.hasReacted;
+        const isCurrentlyLiked = s.reactedByMe;
         return {
           ...s,
-          hasReacted: !isCurrentlyLiked,
+          reactedByMe: !isCurrentlyLiked,
           reactionsCount: isCurrentlyLiked ? (s.reactionsCount - 1) : (s.reactionsCount + 1)
         };
       }
@@ -305,18 +302,19 @@ export default function ExploreScreen() {
     }));
 
     try {
-      await storyService.reactToStory(storyId, 'LIKE');
+      if (wasLiked) await storyService.removeReaction(storyId);
+      else await storyService.reactToStory(storyId, 'LIKE');
     } catch (e) {
-      loadStories(page);
+      loadStories(0);
     }
   };
 
   const handleBookmark = async () => {
     if (!currentUser || !menuTargetStory) return;
-    const isCurrentlyBookmarked = menuTargetStory.isBookmarked;
+    const isCurrentlyBookmarked = menuTargetStory.bookmarkedByMe;
     try {
       await storyService.toggleBookmark(menuTargetStory.id);
-      setStories(prev => prev.map(s => s.id === menuTargetStory.id ? { ...s, isBookmarked: !isCurrentlyBookmarked } : s));
+      setStories(prev => prev.map(s => s.id === menuTargetStory.id ? { ...s, bookmarkedByMe: !isCurrentlyBookmarked } : s));
       setMenuVisible(false);
     } catch (e) {
       Alert.alert('Error', 'Could not update bookmark.');
@@ -328,7 +326,7 @@ export default function ExploreScreen() {
     setViewAllModalVisible(true);
     setActiveComments([]);
     try {
-      const res = await storyService.getComments(storyId, 0, 20);
+      const res = await storyService.getComments(storyId, null, 20);
       setActiveComments(res.data?.content || []);
     } catch (e) {
       console.error('Failed to load comments', e);
@@ -349,7 +347,7 @@ export default function ExploreScreen() {
         profileImageUrl: currentUser.profileImageUrl
       };
       setActiveComments(prev => [...prev, newComment]);
-      setStories(prev => prev.map(s => s.id === selectedStoryId ? { ...s, comments: [...(s.comments || []), newComment] } : s));
+      setStories(prev => prev.map(s => s.id === selectedStoryId ? { ...s, commentsCount: (s.commentsCount || 0) + 1 } : s));
       setCommentText('');
       Keyboard.dismiss();
     } catch (e) { 
@@ -423,8 +421,8 @@ export default function ExploreScreen() {
         <TouchableOpacity style={styles.menuBackdrop} activeOpacity={1} onPress={() => setMenuVisible(false)}>
           <View style={styles.menuContainer}>
             <TouchableOpacity style={styles.menuItem} onPress={handleBookmark}>
-                <FontAwesome name={menuTargetStory?.isBookmarked ? "bookmark" : "bookmark-o"} size={18} color="#263238" />
-                <Text style={styles.menuText}>{menuTargetStory?.isBookmarked ? 'Unbookmark' : 'Bookmark'}</Text>
+                <FontAwesome name={menuTargetStory?.bookmarkedByMe ? "bookmark" : "bookmark-o"} size={18} color="#263238" />
+                <Text style={styles.menuText}>{menuTargetStory?.bookmarkedByMe ? 'Unbookmark' : 'Bookmark'}</Text>
             </TouchableOpacity>
             <TouchableOpacity style={styles.menuItem} onPress={() => { setMenuVisible(false); Alert.alert('Reported'); }}>
                 <Feather name="flag" size={18} color="#E53935" /><Text style={[styles.menuText, { color: '#E53935' }]}>Report</Text>
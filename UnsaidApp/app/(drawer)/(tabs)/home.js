@@ -161,7 +161,7 @@ export default function HomeScreen() {
                 <Text style={styles.likeCountText}>{story.reactionsCount || 0}</Text>
               </View>
             </View>
-            <Text style={styles.storySnippet} numberOfLines={2}>{story.content}</Text>
+            <Text style={styles.storySnippet} numberOfLines={2}>{story.excerpt}</Text>
             <View style={styles.storyMeta}>
               <Text style={styles.authorName}>@{story.authorName || 'anonymous'}</Text>
               <Text style={styles.storyTime}>{story.createdAt ? new Date(story.createdAt).toLocaleDateString() : 'recent'}</Text>
@@ -19,7 +19,7 @@ export default function BookmarksScreen() {
   const fetchBookmarks = async () => {
     try {
       setLoading(true);
-      const res = await storyService.getMyBookmarks(0, 50);
+      const res = await storyService.getMyBookmarks(null, 50);
       setStories(res.data?.content || res.data || []);
     } catch (e) {
       console.error(e);
@@ -48,7 +48,7 @@ export default function BookmarksScreen() {
           renderItem={({ item }) => (
             <TouchableOpacity style={styles.card} onPress={() => router.push('/explore')}>
               <Text style={styles.cardTitle}>{item.title}</Text>
-              <Text style={styles.cardSnippet} numberOfLines={2}>{item.content}</Text>
+              <Text style={styles.cardSnippet} numberOfLines={2}>{item.excerpt}</Text>
             </TouchableOpacity>
           )}
           ListEmptyComponent={
@@ -39,15 +39,12 @@ const formatTimeAgo = (date) => {
 
 // --- 📦 STORY ITEM COMPONENT ---
 const StoryItem = memo(({ story, onLike, onOpenComments, router }) => {
-  const [isExpanded, setIsExpanded] = useState(false);
   const [loadingMap, setLoadingMap] = useState({});
   const [currentImgIndex, setCurrentImgIndex] = useState(0);
   const galleryRef = useRef(null);
   const heartScale = useSharedValue(0);
 
-  const TEXT_LIMIT = 180;
-  const content = story?.content || '';
-  const shouldShowReadMore = content.length > TEXT_LIMIT;
+  const content = story?.excerpt || '';
   const hasImages = story.imageUrls && story.imageUrls.length > 0;
   const cardContentWidth = SCREEN_WIDTH - 72; 
 
@@ -94,14 +91,15 @@ const StoryItem = memo(({ story, onLike, onOpenComments, router }) => {
         <Text style={styles.storyTitle}>{story.title || 'Untitled'}</Text>
         
         <HashtagText
-          text={isExpanded || !shouldShowReadMore ? content : `${content.slice(0, TEXT_LIMIT)}...`}
+          text={content}
           style={styles.contentBody}
           onPressHashtag={(tag) => router.push(`/hashtag/${tag}`)}
         />
         
-        {shouldShowReadMore && (
-          <TouchableOpacity onPress={() => setIsExpanded(!isExpanded)} style={styles.readMoreButton}>
-            <Text style={styles.readMoreText}>{isExpanded ? 'Show less' : 'See more'}</Text>
+        {/* The card only has the excerpt; the rest lives on the story page */}
+        {story.truncated && (
+          <TouchableOpacity onPress={() => router.push(`/story/view/${story.id}`)} style={styles.readMoreButton}>
+            <Text style={styles.readMoreText}>Read more</Text>
           </TouchableOpacity>
         )}
 
@@ -135,14 +133,14 @@ const StoryItem = memo(({ story, onLike, onOpenComments, router }) => {
 
       <View style={styles.actionRow}>
         <TouchableOpacity style={styles.iconButton} onPress={handlePressLike}>
-          <FontAwesome name={story.hasReacted ? "heart" : "heart-o"} size={22} color={story.hasReacted ? "#E53935" : "#455A64"} />
-          <Text style={[styles.actionCount, story.hasReacted && { color: "#E53935" }]}>
+          <FontAwesome name={story.reactedByMe ? "heart" : "heart-o"} size={22} color={story.reactedByMe ? "#E53935" : "#455A64"} />
+          <Text style={[styles.actionCount, story.reactedByMe && { color: "#E53935" }]}>
             {String(story.reactionsCount || 0)}
           </Text>
         </TouchableOpacity>
         <TouchableOpacity style={styles.iconButton} onPress={() => onOpenComments(story.id)}>
           <Feather name="message-circle" size={22} color="#455A64" />
-          <Text style={styles.actionCount}>{String(story.comments?.length || 0)}</Text>
+          <Text style={styles.actionCount}>{String(story.commentsCount || 0)}</Text>
         </TouchableOpacity>
       </View>
     </View>
@@ -184,15 +182,16 @@ export default function CategoryScreen() {
 
   const handleLike = async (storyId) => {
     if (!currentUser) return Alert.alert('Login required', 'Please login to like ❤️');
-    setStories(prev => prev.map(s => s.id === storyId ? { ...s, hasReacted: !s.hasReacted, reactionsCount: s.hasReacted ? s.reactionsCount - 1 : s.reactionsCount + 1 } : s));
-    try { await storyService.reactToStory(storyId, 'LIKE'); } catch (e) { fetchCategorizedStories(); }
+    const wasLiked = stories.find(s => s.id === storyId)?.reactedByMe;
+    setStories(prev => prev.map(s => s.id === storyId ? { ...s, reactedByMe: !s.reactedByMe, reactionsCount: s.reactedByMe ? s.reactionsCount - 1 : s.reactionsCount + 1 } : s));
+    try { await (wasLiked ? storyService.removeReaction(storyId) : storyService.reactToStory(storyId, 'LIKE')); } catch (e) { fetchCategorizedStories(); }
   };
 
   const openCommentsSheet = async (storyId) => {
     setSelectedStoryId(storyId);
     setViewAllModalVisible(true);
     try {
-      const res = await storyService.getComments(storyId, 0, 20);
+      const res = await storyService.getComments(storyId, null, 20);
       setActiveComments(res.data?.content || []);
     } catch (e) { console.error(e); }
   };
@@ -208,7 +207,7 @@ export default function CategoryScreen() {
         createdAt: new Date().toISOString() 
       };
       setActiveComments(prev => [...prev, newComment]);
-      setStories(prev => prev.map(s => s.id === selectedStoryId ? { ...s, comments: [...(s.comments || []), newComment] } : s));
+      setStories(prev => prev.map(s => s.id === selectedStoryId ? { ...s, commentsCount: (s.commentsCount || 0) + 1 } : s));
       setCommentText('');
       Keyboard.dismiss();
     } catch (e) { Alert.alert('Error', 'Unable to add comment'); }
@@ -216,7 +215,7 @@ export default function CategoryScreen() {
 
   const filteredStories = stories.filter(s => 
     (s.title || '').toLowerCase().includes(searchQuery.toLowerCase()) || 
-    (s.content || '').toLowerCase().includes(searchQuery.toLowerCase())
+    (s.excerpt || '').toLowerCase().includes(searchQuery.toLowerCase())
   );
 
   if (authLoading && stories.length === 0) {
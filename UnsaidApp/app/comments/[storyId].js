@@ -13,7 +13,7 @@ export default function CommentsScreen() {
 
   const loadComments = async () => {
     const res = await storyService.getComments(storyId);
-    setComments(res.data || []);
+    setComments(res.data?.content || []);
   };
 
   return (
@@ -26,7 +26,7 @@ export default function HashtagFeedScreen() {
   const loadStories = async () => {
     try {
       const res = await storyService.getStoriesByHashtag(tag);
-      setStories(res.data || []);
+      setStories(res.data?.content || res.data || []);
     } catch (e) {
       console.error('Failed to load hashtag stories', e);
     } finally {
@@ -56,7 +56,7 @@ export default function HashtagFeedScreen() {
         {stories.map(story => (
           <View key={story.id} style={styles.storyCard}>
             <Text style={styles.storyTitle}>{story.title}</Text>
-            <Text style={styles.storyText}>{story.content}</Text>
+            <Text style={styles.storyText}>{story.excerpt}</Text>
           </View>
         ))}
       </ScrollView>
@@ -24,6 +24,16 @@ const getMessage = (type) => {
   }
 };
 
+// "alex", "alex and sam", "alex and 12 others"
+const getActors = (item) => {
+  const others = (item.senderCount || 1) - 1;
+  if (others <= 0) return item.senderId;
+  if (others === 1 && item.recentSenders?.length > 1) {
+    return `${item.recentSenders[0]} and ${item.recentSenders[1]}`;
+  }
+  return `${item.senderId} and ${others} others`;
+};
+
 export default function NotificationsScreen() {
   const [notifications, setNotifications] = useState([]);
   const [refreshing, setRefreshing] = useState(false);
@@ -32,7 +42,7 @@ export default function NotificationsScreen() {
   const loadNotifications = async () => {
     try {
       const res = await notificationService.getNotifications();
-      setNotifications(res.data || []);
+      setNotifications(res.data?.content || []);
     } catch (e) {
       console.log('Failed to load notifications');
     }
@@ -80,7 +90,7 @@ export default function NotificationsScreen() {
 
       <View style={{ flex: 1 }}>
         <Text style={styles.text}>
-          <Text style={styles.bold}>{item.senderId}</Text>{' '}
+          <Text style={styles.bold}>{getActors(item)}</Text>{' '}
           {getMessage(item.type)}
         </Text>
         <Text style={styles.time}>
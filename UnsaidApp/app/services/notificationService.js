@@ -4,8 +4,8 @@ export const notificationService = {
 
   // 🔔 GET ALL NOTIFICATIONS (auth)
   // GET /api/notifications
-  getNotifications: () =>
-    api.get('/notifications'),
+  getNotifications: (cursor = null, size = 20) =>
+    api.get('/notifications', { params: { cursor, size } }),
 
   // 🔴 GET UNREAD COUNT (auth)
   // GET /api/notifications/unread-count
@@ -17,4 +17,9 @@ export const notificationService = {
   markAsRead: (notificationId) =>
     api.post(`/notifications/${notificationId}/read`),
 
+  // ✅ MARK ALL AS READ (auth)
+  // POST /api/notifications/read-all
+  markAllAsRead: () =>
+    api.post('/notifications/read-all'),
+
 };
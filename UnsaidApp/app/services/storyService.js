@@ -44,21 +44,45 @@ createStory: async ({
 
 
 
-  // 🏠 GET PUBLIC STORIES (paginated)
+  // 🏠 GET PUBLIC STORIES (cursor paginated)
   // GET /api/stories/paged
-  getStories: (page = 0, size = 10) =>
-    api.get(`/stories/paged?page=${page}&size=${size}`),
+  getStories: (cursor = null, size = 10) =>
+    api.get('/stories/paged', { params: { cursor, size } }),
 
   // 🔖 GET STORIES BY HASHTAG (public)
   // GET /api/stories/hashtag/{tag}
-  getStoriesByHashtag: (tag) =>
-    api.get(`/stories/hashtag/${tag}`),
+  getStoriesByHashtag: (tag, cursor = null, size = 10) =>
+    api.get(`/stories/hashtag/${encodeURIComponent(tag)}`, { params: { cursor, size } }),
+
+  // #️⃣ TAG STATS (public)
+  // GET /api/hashtags/{tag}
+  getHashtag: (tag) =>
+    api.get(`/hashtags/${encodeURIComponent(tag)}`),
+
+  // #️⃣ HASHTAG AUTOCOMPLETE (public)
+  // GET /api/hashtags/suggest?prefix=
+  suggestHashtags: (prefix, limit = 10) =>
+    api.get('/hashtags/suggest', { params: { prefix, limit } }),
+
+  // 📈 TRENDING HASHTAGS (public) — window: 'HOUR' | 'DAY'
+  // GET /api/hashtags/trending
+  getTrendingHashtags: (window = 'DAY', limit = 10) =>
+    api.get('/hashtags/trending', { params: { window, limit } }),
+
+  // 🕸️ RELATED HASHTAGS (tags often used together)
+  // GET /api/hashtags/{tag}/related?limit=10
+  getRelatedHashtags: (tag, limit = 10) =>
+    api.get(`/hashtags/${encodeURIComponent(tag)}/related`, { params: { limit } }),
 
   // ❤️ REACT TO STORY (auth)
   // POST /api/stories/{storyId}/reactions
   reactToStory: (storyId, type = 'like') =>
     api.post(`/stories/${storyId}/reactions`, { type }),
 
+  // DELETE /api/stories/{storyId}/reactions
+  removeReaction: (storyId) =>
+    api.delete(`/stories/${storyId}/reactions`),
+
   // 💬 ADD COMMENT (auth)
   // POST /api/stories/{storyId}/comments
   addComment: (storyId, text) =>
@@ -69,10 +93,8 @@ createStory: async ({
 
   // 💬 GET COMMENTS (paginated)
   // GET /api/stories/{storyId}/comments/paged
-  getComments: (storyId, page = 0, size = 5) =>
-    api.get(
-      `/stories/${storyId}/comments/paged?page=${page}&size=${size}`
-    ),
+  getComments: (storyId, cursor = null, size = 5) =>
+    api.get(`/stories/${storyId}/comments/paged`, { params: { cursor, size } }),
 
   // ❤️ LIKE / UNLIKE COMMENT (auth)
   // POST /api/stories/{storyId}/comments/{commentId}/like
@@ -101,15 +123,16 @@ toggleVisibility: (storyId) =>
 // 🗂️ GET STORIES BY CATEGORY (public)
   getStoriesByCategory: (category) =>
     api.get(`/stories/category/${category}`),
-searchStories: (query, page = 0, size = 10) =>
-  api.get(`/stories/search?q=${query}&page=${page}&size=${size}`),
+// 🔎 Ranked search; response also carries total + per-category facets
+searchStories: (query, cursor = null, size = 10, category = null) =>
+  api.get('/stories/search', { params: { q: query, cursor, size, category } }),
 // 🔖 Toggle bookmark
 toggleBookmark: (storyId) =>
   api.post(`/bookmarks/${storyId}`),
 
 // 📚 Get my bookmarks
-getMyBookmarks: () =>
-  api.get('/bookmarks/me'),
+getMyBookmarks: (cursor = null, size = 20) =>
+  api.get('/bookmarks/me', { params: { cursor, size } }),
 
 getTrendingStories: () =>
   api.get('/stories/trending'),
@@ -20,6 +20,11 @@ import api from './api';
   getUserByUsername: (username) =>
     api.get(`/users/${username}`),
 
+  // 🔎 SEARCH PEOPLE (username prefix, most stories first)
+  // GET /api/users/search?prefix=&limit=10
+  searchUsers: (prefix, limit = 10) =>
+    api.get('/users/search', { params: { prefix, limit } }),
+
   // 🙋‍♀️ GET CURRENT LOGGED-IN USER
   // GET /api/users/me
   getCurrentUser: () =>
@@ -66,7 +66,7 @@ export default function StoryDetailScreen() {
       ]);
       setStory(storyRes.data);
       setCurrentUser(userRes.data);
-      const commentRes = await storyService.getComments(id, 0, 50);
+      const commentRes = await storyService.getComments(id, null, 50);
       setComments(commentRes.data?.content || []);
     } catch (error) {
       Alert.alert("Error", "Could not load story details.");
@@ -95,25 +95,26 @@ export default function StoryDetailScreen() {
 
   const handleBookmark = async () => {
     if (!currentUser) return Alert.alert("Login Required", "Please log in.");
-    const isBookmarked = story.isBookmarked;
-    setStory({ ...story, isBookmarked: !isBookmarked });
+    const bookmarkedByMe = story.bookmarkedByMe;
+    setStory({ ...story, bookmarkedByMe: !bookmarkedByMe });
     try {
       await storyService.toggleBookmark(id);
     } catch (e) {
-      setStory({ ...story, isBookmarked: isBookmarked });
+      setStory({ ...story, bookmarkedByMe: bookmarkedByMe });
     }
   };
 
   const handleLike = async () => {
     if (!currentUser) return Alert.alert("Login Required", "Please log in.");
-    const isLiked = story.hasReacted;
+    const isLiked = story.reactedByMe;
     setStory({
       ...story,
-      hasReacted: !isLiked,
+      reactedByMe: !isLiked,
       reactionsCount: isLiked ? story.reactionsCount - 1 : story.reactionsCount + 1
     });
     try {
-      await storyService.reactToStory(id, 'LIKE');
+      if (isLiked) await storyService.removeReaction(id);
+      else await storyService.reactToStory(id, 'LIKE');
     } catch (e) { init(); }
   };
 
@@ -163,9 +164,9 @@ export default function StoryDetailScreen() {
             <Text style={styles.headerTitle}>Story Echo</Text>
             <TouchableOpacity onPress={handleBookmark} style={styles.iconCircle}>
               <FontAwesome 
-                name={story.isBookmarked ? "bookmark" : "bookmark-o"} 
+                name={story.bookmarkedByMe ? "bookmark" : "bookmark-o"} 
                 size={20} 
-                color={story.isBookmarked ? "#1E88E5" : "#444"} 
+                color={story.bookmarkedByMe ? "#1E88E5" : "#444"} 
               />
             </TouchableOpacity>
           </View>
@@ -263,16 +264,16 @@ export default function StoryDetailScreen() {
 
               <View style={styles.inlineActionRow}>
                 <TouchableOpacity style={styles.actionButton} onPress={handleLike}>
-                  <FontAwesome name={story.hasReacted ? "heart" : "heart-o"} size={18} color={story.hasReacted ? "#E53935" : "#555"} />
-                  <Text style={[styles.actionButtonText, story.hasReacted && {color: "#E53935"}]}>Like</Text>
+                  <FontAwesome name={story.reactedByMe ? "heart" : "heart-o"} size={18} color={story.reactedByMe ? "#E53935" : "#555"} />
+                  <Text style={[styles.actionButtonText, story.reactedByMe && {color: "#E53935"}]}>Like</Text>
                 </TouchableOpacity>
                 <TouchableOpacity style={styles.actionButton} onPress={() => inputRef.current?.focus()}>
                   <Feather name="message-circle" size={18} color="#555" />
                   <Text style={styles.actionButtonText}>Echo</Text>
                 </TouchableOpacity>
                 <TouchableOpacity style={styles.actionButton} onPress={handleBookmark}>
-                   <FontAwesome name={story.isBookmarked ? "bookmark" : "bookmark-o"} size={17} color={story.isBookmarked ? "#1E88E5" : "#555"} />
-                   <Text style={[styles.actionButtonText, story.isBookmarked && {color: "#1E88E5"}]}>Save</Text>
+                   <FontAwesome name={story.bookmarkedByMe ? "bookmark" : "bookmark-o"} size={17} color={story.bookmarkedByMe ? "#1E88E5" : "#555"} />
+                   <Text style={[styles.actionButtonText, story.bookmarkedByMe && {color: "#1E88E5"}]}>Save</Text>
                 </TouchableOpacity>
               </View>
             </View>
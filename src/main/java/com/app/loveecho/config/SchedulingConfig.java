@@ -0,0 +1,36 @@
+package com.app.loveecho.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// ⏱️ Two schedulers so long bulk jobs (index rebuilds, full reloads,
+// retention compaction) can never hold up the short periodic ones (SSE
+// heartbeat, preference flush, re-ranks). Bulk jobs opt in with
+// @Scheduled(scheduler = BULK_JOBS); everything else uses taskScheduler.
+@Configuration
+public class SchedulingConfig {
+
+    public static final String BULK_JOBS = "bulkJobScheduler";
+
+    // The default scheduler, still configured by spring.task.scheduling.*.
+    // Declared explicitly because a second TaskScheduler bean would
+    // otherwise switch off Boot's auto-configured one.
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = BULK_JOBS)
+    public ThreadPoolTaskScheduler bulkJobScheduler(
+            ThreadPoolTaskSchedulerBuilder builder,
+            @Value("${scheduling.bulk.pool-size:2}") int poolSize
+    ) {
+        return builder
+                .poolSize(poolSize)
+                .threadNamePrefix("bulk-job-")
+                .build();
+    }
+}
@@ -1,7 +1,9 @@
 package com.app.loveecho.controller;
 
-import com.app.loveecho.dto.StoryResponseDTO;
+import com.app.loveecho.dto.CursorPage;
+import com.app.loveecho.dto.StorySummaryDTO;
 import com.app.loveecho.service.BookmarkService;
+import com.app.loveecho.service.ViewerStateService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -9,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,6 +19,7 @@ import java.util.Map;
 public class BookmarkController {
 
     private final BookmarkService bookmarkService;
+    private final ViewerStateService viewerState;
 
     /* =========================
        TOGGLE BOOKMARK
@@ -45,7 +47,9 @@ public class BookmarkController {
        GET MY BOOKMARKS
     ========================== */
     @GetMapping("/me")
-    public ResponseEntity<List<StoryResponseDTO>> getMyBookmarks(
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getMyBookmarks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             Authentication authentication
     ) {
         if (authentication == null) {
@@ -55,7 +59,10 @@ public class BookmarkController {
         String username = authentication.getName();
 
         return ResponseEntity.ok(
-                bookmarkService.getMyBookmarks(username)
+                viewerState.apply(
+                        bookmarkService.getMyBookmarks(username, cursor, size),
+                        authentication
+                )
         );
     }
 }
@@ -0,0 +1,69 @@
+package com.app.loveecho.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.app.loveecho.dto.HashtagDTO;
+import com.app.loveecho.dto.RelatedTagDTO;
+import com.app.loveecho.dto.TimeWindow;
+import com.app.loveecho.dto.TrendingTagDTO;
+import com.app.loveecho.service.HashtagService;
+import com.app.loveecho.service.RelatedHashtagService;
+import com.app.loveecho.service.TrendingHashtagService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/hashtags")
+@RequiredArgsConstructor
+public class HashtagController {
+
+    private final HashtagService hashtagService;
+    private final TrendingHashtagService trendingHashtags;
+    private final RelatedHashtagService relatedHashtags;
+
+    /* =========================
+       AUTOCOMPLETE
+    ========================== */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<HashtagDTO>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(hashtagService.suggest(prefix, limit));
+    }
+
+    /* =========================
+       TRENDING (sliding window)
+    ========================== */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingTagDTO>> trending(
+            @RequestParam(defaultValue = "DAY") String window,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(
+                trendingHashtags.top(TimeWindow.parse(window), limit)
+        );
+    }
+
+    /* =========================
+       TAG STATS (tag page header)
+    ========================== */
+    @GetMapping("/{tag}")
+    public ResponseEntity<HashtagDTO> getTag(@PathVariable String tag) {
+        return ResponseEntity.ok(hashtagService.getStats(tag));
+    }
+
+    /* =========================
+       RELATED (co-occurrence)
+    ========================== */
+    @GetMapping("/{tag}/related")
+    public ResponseEntity<List<RelatedTagDTO>> related(
+            @PathVariable String tag,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(relatedHashtags.related(tag, limit));
+    }
+}
@@ -1,11 +1,14 @@
 package com.app.loveecho.controller;
 
-import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.app.loveecho.dto.CursorPage;
 import com.app.loveecho.dto.NotificationResponseDTO;
 import com.app.loveecho.service.NotificationService;
 
@@ -22,7 +25,9 @@ public class NotificationController {
        GET NOTIFICATIONS
     ========================== */
     @GetMapping
-    public ResponseEntity<List<NotificationResponseDTO>> getNotifications(
+    public ResponseEntity<CursorPage<NotificationResponseDTO>> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             Authentication authentication
     ) {
         if (authentication == null) {
@@ -30,7 +35,22 @@ public class NotificationController {
         }
 
         return ResponseEntity.ok(
-                notificationService.getNotificationsDTO(authentication.getName())
+                notificationService.getInbox(authentication.getName(), cursor, size)
+        );
+    }
+
+    /* =========================
+       LIVE STREAM (SSE)
+    ========================== */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(Authentication authentication) {
+
+        if (authentication == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(
+                notificationService.openStream(authentication.getName())
         );
     }
 
@@ -50,6 +70,23 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    /* =========================
+       MARK ALL AS READ
+    ========================== */
+    // Optional cursor: only notifications at or older than that position
+    @PostMapping("/read-all")
+    public ResponseEntity<Map<String, Long>> markAllAsRead(
+            @RequestParam(required = false) String cursor,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        long updated = notificationService.markAllAsRead(authentication.getName(), cursor);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
     /* =========================
        UNREAD COUNT
     ========================== */
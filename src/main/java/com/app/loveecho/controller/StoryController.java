@@ -3,9 +3,6 @@ package com.app.loveecho.controller;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -16,10 +13,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 
 import com.app.loveecho.dto.CommentResponseDTO;
+import com.app.loveecho.dto.CursorPage;
+import com.app.loveecho.dto.SearchPage;
 import com.app.loveecho.dto.StoryResponseDTO;
+import com.app.loveecho.dto.StorySummaryDTO;
+import com.app.loveecho.dto.TimeWindow;
 import com.app.loveecho.mongo.document.Story;
 import com.app.loveecho.service.CloudinaryService;
 import com.app.loveecho.service.StoryService;
+import com.app.loveecho.service.ViewerStateService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 public class StoryController {
 
     private final StoryService storyService;
+    private final ViewerStateService viewerState;
 
     private final CloudinaryService cloudinaryService;
 
@@ -60,9 +63,13 @@ public ResponseEntity<StoryResponseDTO> createStory(
        GET PUBLIC STORIES
     ========================== */
     @GetMapping
-    public ResponseEntity<List<StoryResponseDTO>> getPublicStories() {
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getPublicStories(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
+    ) {
         return ResponseEntity.ok(
-                storyService.getAllPublicStories()
+                viewerState.apply(storyService.getAllPublicStories(cursor, size), authentication)
         );
     }
 
@@ -70,11 +77,14 @@ public ResponseEntity<StoryResponseDTO> createStory(
        GET USER STORIES
     ========================== */
     @GetMapping("/user/{username}")
-    public ResponseEntity<List<StoryResponseDTO>> getUserStories(
-            @PathVariable String username
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getUserStories(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
     ) {
         return ResponseEntity.ok(
-                storyService.getStoriesByUser(username)
+                viewerState.apply(storyService.getStoriesByUser(username, cursor, size), authentication)
         );
     }
 
@@ -82,11 +92,14 @@ public ResponseEntity<StoryResponseDTO> createStory(
        HASHTAG STORIES
     ========================== */
     @GetMapping("/hashtag/{tag}")
-    public ResponseEntity<List<StoryResponseDTO>> getStoriesByHashtag(
-            @PathVariable String tag
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getStoriesByHashtag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
     ) {
         return ResponseEntity.ok(
-                storyService.getStoriesByHashtag(tag)
+                viewerState.apply(storyService.getStoriesByHashtag(tag, cursor, size), authentication)
         );
     }
 
@@ -129,13 +142,33 @@ public ResponseEntity<StoryResponseDTO> createStory(
             return ResponseEntity.status(401).build();
         }
 
-        String type = body.getOrDefault("type", "LIKE").toUpperCase();
+        String type = body.get("type");
 
         return ResponseEntity.ok(
-                storyService.reactToStory(
-                        storyId,
-                        type,
-                        authentication.getName()
+                viewerState.apply(
+                        storyService.reactToStory(
+                                storyId,
+                                type,
+                                authentication.getName()
+                        ),
+                        authentication
+                )
+        );
+    }
+
+    @DeleteMapping("/{storyId}/reactions")
+    public ResponseEntity<StoryResponseDTO> removeReaction(
+            @PathVariable String storyId,
+            Authentication authentication
+    ) {
+        if (authentication == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(
+                viewerState.apply(
+                        storyService.removeReaction(storyId, authentication.getName()),
+                        authentication
                 )
         );
     }
@@ -144,18 +177,13 @@ public ResponseEntity<StoryResponseDTO> createStory(
        PAGED PUBLIC STORIES
     ========================== */
     @GetMapping("/paged")
-    public ResponseEntity<Page<StoryResponseDTO>> getPagedStories(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getPagedStories(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
     ) {
-        PageRequest pageable = PageRequest.of(
-                page,
-                size,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
-
         return ResponseEntity.ok(
-                storyService.getPagedPublicStories(pageable)
+                viewerState.apply(storyService.getPagedPublicStories(cursor, size), authentication)
         );
     }
 
@@ -163,19 +191,13 @@ public ResponseEntity<StoryResponseDTO> createStory(
        PAGED COMMENTS
     ========================== */
     @GetMapping("/{storyId}/comments/paged")
-    public ResponseEntity<Page<CommentResponseDTO>> getCommentsPaged(
+    public ResponseEntity<CursorPage<CommentResponseDTO>> getCommentsPaged(
             @PathVariable String storyId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "5") int size
     ) {
-        PageRequest pageable = PageRequest.of(
-                page,
-                size,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
-
         return ResponseEntity.ok(
-                storyService.getPagedComments(storyId, pageable)
+                storyService.getPagedComments(storyId, cursor, size)
         );
     }
 
@@ -183,7 +205,9 @@ public ResponseEntity<StoryResponseDTO> createStory(
        MY PRIVATE STORIES
     ========================== */
     @GetMapping("/my/private")
-    public ResponseEntity<List<StoryResponseDTO>> getMyPrivateStories(
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getMyPrivateStories(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
             Authentication authentication
     ) {
         if (authentication == null) {
@@ -191,7 +215,7 @@ public ResponseEntity<StoryResponseDTO> createStory(
         }
 
         return ResponseEntity.ok(
-                storyService.getMyPrivateStories(authentication.getName())
+                viewerState.apply(storyService.getMyPrivateStories(authentication.getName(), cursor, size), authentication)
         );
     }
 
@@ -204,7 +228,7 @@ public ResponseEntity<StoryResponseDTO> createStory(
             Authentication authentication
     ) {
         return ResponseEntity.ok(
-                storyService.getStoryById(id, authentication)
+                viewerState.apply(storyService.getStoryById(id, authentication), authentication)
         );
     }
 
@@ -273,11 +297,14 @@ public ResponseEntity<StoryResponseDTO> createStory(
        CATEGORY FILTER
     ========================== */
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<StoryResponseDTO>> getStoriesByCategory(
-            @PathVariable String category
+    public ResponseEntity<CursorPage<StorySummaryDTO>> getStoriesByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
     ) {
         return ResponseEntity.ok(
-                storyService.getStoriesByCategory(category)
+                viewerState.apply(storyService.getStoriesByCategory(category, cursor, size), authentication)
         );
     }
 
@@ -285,23 +312,21 @@ public ResponseEntity<StoryResponseDTO> createStory(
        SEARCH STORIES
     ========================== */
     @GetMapping("/search")
-    public ResponseEntity<Page<StoryResponseDTO>> searchStories(
+    public ResponseEntity<SearchPage<StorySummaryDTO>> searchStories(
             @RequestParam String q,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication
     ) {
-        PageRequest pageable = PageRequest.of(
-                page,
-                size,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
-
-        return ResponseEntity.ok(
-                storyService.searchStories(q, pageable)
-        );
+        SearchPage<StorySummaryDTO> page = storyService.searchStories(q, category, cursor, size);
+        viewerState.apply(page, authentication);
+        return ResponseEntity.ok(page);
     }
     @GetMapping("/my/public")
-        public ResponseEntity<List<StoryResponseDTO>> getMyPublicStories(
+        public ResponseEntity<CursorPage<StorySummaryDTO>> getMyPublicStories(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "10") int size,
                         Authentication authentication
                 ) {
                 if (authentication == null) {
@@ -309,7 +334,7 @@ public ResponseEntity<StoryResponseDTO> createStory(
                 }
 
                 return ResponseEntity.ok(
-                        storyService.getStoriesByUser(authentication.getName())
+                        viewerState.apply(storyService.getStoriesByUser(authentication.getName(), cursor, size), authentication)
                 );
         }
 
@@ -333,27 +358,42 @@ public ResponseEntity<StoryResponseDTO> deleteComment(
 }
 
 @GetMapping("/most-liked")
-public ResponseEntity<List<StoryResponseDTO>> mostLiked() {
-    return ResponseEntity.ok(storyService.getMostLikedStories());
+public ResponseEntity<CursorPage<StorySummaryDTO>> mostLiked(
+        @RequestParam(defaultValue = "ALL") String window,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        Authentication authentication
+) {
+    return ResponseEntity.ok(
+            viewerState.apply(storyService.getMostLikedStories(TimeWindow.parse(window), cursor, size), authentication)
+    );
 }
 
 @GetMapping("/trending")
-public ResponseEntity<List<StoryResponseDTO>> trending() {
-    return ResponseEntity.ok(storyService.getTrendingStories());
+public ResponseEntity<CursorPage<StorySummaryDTO>> trending(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        Authentication authentication
+) {
+    return ResponseEntity.ok(
+            viewerState.apply(storyService.getTrendingStories(cursor, size), authentication)
+    );
 }
 
 @GetMapping("/feed")
-public ResponseEntity<List<StoryResponseDTO>> personalizedFeed(
+public ResponseEntity<CursorPage<StorySummaryDTO>> personalizedFeed(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
         Authentication authentication
 ) {
     if (authentication == null) {
         return ResponseEntity.ok(
-            storyService.getAllPublicStories() // fallback
+            storyService.getAllPublicStories(cursor, size) // fallback
         );
     }
 
     return ResponseEntity.ok(
-        storyService.getPersonalizedFeed(authentication.getName())
+        viewerState.apply(storyService.getPersonalizedFeed(authentication.getName(), cursor, size), authentication)
     );
 }
 
@@ -1,5 +1,6 @@
 package com.app.loveecho.controller;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,10 +25,12 @@ import org.springframework.web.multipart.MultipartFile;
 import com.app.loveecho.dto.LoginRequest;
 import com.app.loveecho.dto.UpdateProfileRequest;
 import com.app.loveecho.dto.UserResponseDTO;
+import com.app.loveecho.dto.UserSearchDTO;
 import com.app.loveecho.jpa.entity.User;
 import com.app.loveecho.jpa.repository.UserRepository;
 import com.app.loveecho.security.JwtUtil;
 import com.app.loveecho.service.CloudinaryService;
+import com.app.loveecho.service.UserSearchService;
 import com.app.loveecho.service.UserService;
 
 @RestController
@@ -49,6 +52,9 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserSearchService userSearchService;
+
     // =======================
     // ✅ REGISTER
     // =======================
@@ -60,6 +66,17 @@ public class UserController {
         return ResponseEntity.ok(mapToDTO(savedUser));
     }
 
+    // =======================
+    // 🔎 SEARCH PEOPLE (username prefix)
+    // =======================
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchDTO>> searchUsers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(userSearchService.search(prefix, limit));
+    }
+
     // =======================
     // 🔓 PUBLIC PROFILE
     // =======================
@@ -189,6 +206,7 @@ public class UserController {
                 user.setProfileImageUrl(null);
                 user.setProfileImagePublicId(null);
                 userRepository.save(user);
+                userSearchService.recordChange(username, user);
         }
 
         return ResponseEntity.ok(
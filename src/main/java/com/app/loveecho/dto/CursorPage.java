@@ -0,0 +1,47 @@
+package com.app.loveecho.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 50;
+
+    private List<T> content;
+    private String nextCursor; // null on the last page
+    private boolean last;
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // rows must be fetched with limit size + 1; the extra row only signals a next page
+    public static <T> CursorPage<T> of(
+            List<T> rows,
+            int size,
+            Function<T, PageCursor> cursorOf
+    ) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, true);
+        }
+
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(
+                content,
+                cursorOf.apply(content.get(size - 1)).encode(),
+                false
+        );
+    }
+
+    // Batch mapping keeps list mappers (one user lookup per page) usable
+    public <R> CursorPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new CursorPage<>(mapper.apply(content), nextCursor, last);
+    }
+}
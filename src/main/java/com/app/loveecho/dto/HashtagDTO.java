@@ -0,0 +1,15 @@
+package com.app.loveecho.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HashtagDTO {
+    private String tag;
+    private long storyCount;
+}
@@ -2,6 +2,7 @@ package com.app.loveecho.dto;
 
 import lombok.*;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -15,4 +16,6 @@ public class NotificationResponseDTO {
     private String type;
     private boolean read;
     private LocalDateTime createdAt;
+    private int senderCount;
+    private List<String> recentSenders;
 }
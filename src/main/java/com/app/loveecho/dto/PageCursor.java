@@ -0,0 +1,68 @@
+package com.app.loveecho.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import com.app.loveecho.exception.BadRequestException;
+
+// Opaque keyset position: the sort key of the last row served plus its id
+// as a tie-breaker. Time keys are stored as epoch microseconds (UTC).
+public record PageCursor(long key, String id) {
+
+    public static PageCursor of(LocalDateTime time, String id) {
+        Instant instant = time.toInstant(ZoneOffset.UTC);
+        return new PageCursor(
+                instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000,
+                id
+        );
+    }
+
+    public LocalDateTime time() {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(key, 1_000_000),
+                Math.floorMod(key, 1_000_000) * 1_000,
+                ZoneOffset.UTC
+        );
+    }
+
+    // Offset cursors (ranked lists without a stable sort key); 0 = first page.
+    // The key is client-controlled, so it is range-checked before use.
+    public static int offsetOf(PageCursor cursor) {
+        if (cursor == null) return 0;
+        if (cursor.key() < 0 || cursor.key() > Integer.MAX_VALUE) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return (int) cursor.key();
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((key + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Blank cursor means "first page". Every key we issue (time, counter,
+    // offset) is non-negative, so anything else was not made by us.
+    public static PageCursor decode(String token) {
+
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(
+                    Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8
+            );
+            int sep = raw.indexOf(':');
+            long key = Long.parseLong(raw.substring(0, sep));
+            if (key < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new PageCursor(key, raw.substring(sep + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
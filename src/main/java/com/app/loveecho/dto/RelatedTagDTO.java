@@ -0,0 +1,15 @@
+package com.app.loveecho.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RelatedTagDTO {
+    private String tag;
+    private double score; // normalised co-occurrence (0..1], decayed by story age
+}
@@ -0,0 +1,25 @@
+package com.app.loveecho.dto;
+
+import java.util.Map;
+
+import com.app.loveecho.jpa.entity.StoryCategory;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+// Search results page plus the total hit count and per-category facets
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class SearchPage<T> extends CursorPage<T> {
+
+    private long total;
+    private Map<StoryCategory, Integer> facets;
+
+    public SearchPage(CursorPage<T> page, long total, Map<StoryCategory, Integer> facets) {
+        super(page.getContent(), page.getNextCursor(), page.isLast());
+        this.total = total;
+        this.facets = facets;
+    }
+}
@@ -1,9 +1,12 @@
 package com.app.loveecho.dto;
 
+import com.app.loveecho.jpa.entity.ReactionType;
+
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
@@ -22,6 +25,13 @@ public class StoryResponseDTO {
     private boolean anonymous;
     private List<String> imageUrls;
     private UserMiniDTO user;
-    private List<CommentResponseDTO> comments;
     private int reactionsCount;
+    private Map<ReactionType, Integer> reactionCounts;
+    private int commentsCount;
+    private int bookmarksCount;
+
+    // Per-viewer state, only filled for authenticated requests
+    private boolean reactedByMe;
+    private ReactionType myReactionType;
+    private boolean bookmarkedByMe;
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.app.loveecho.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StorySummaryDTO {
+    private String id;
+    private String title;
+    private String excerpt;
+    private boolean truncated; // the full text is only on the story view
+    private String visibility;
+    private String category;
+    private String userId;
+    private LocalDateTime createdAt;
+    private boolean anonymous;
+    private List<String> imageUrls;
+    private List<String> hashtags;
+    private UserMiniDTO user;
+    private int reactionsCount;
+    private Map<ReactionType, Integer> reactionCounts;
+    private int commentsCount;
+    private int bookmarksCount;
+
+    // Per-viewer state, only filled for authenticated requests
+    private boolean reactedByMe;
+    private ReactionType myReactionType;
+    private boolean bookmarkedByMe;
+}
@@ -0,0 +1,40 @@
+package com.app.loveecho.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.app.loveecho.exception.BadRequestException;
+
+public enum TimeWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7)),
+    MONTH(Duration.ofDays(30)),
+    ALL(null);
+
+    private final Duration length;
+
+    TimeWindow(Duration length) {
+        this.length = length;
+    }
+
+    public Duration length() {
+        return length;
+    }
+
+    // null for ALL
+    public LocalDateTime since(LocalDateTime now) {
+        return length == null ? null : now.minus(length);
+    }
+
+    public static TimeWindow parse(String value) {
+        if (value == null || value.isBlank()) return ALL;
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(
+                    "Invalid window. Allowed: HOUR, DAY, WEEK, MONTH, ALL"
+            );
+        }
+    }
+}
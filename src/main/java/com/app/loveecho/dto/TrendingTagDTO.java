@@ -0,0 +1,15 @@
+package com.app.loveecho.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TrendingTagDTO {
+    private String tag;
+    private long score; // weighted uses inside the window (estimate)
+}
@@ -0,0 +1,17 @@
+package com.app.loveecho.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserSearchDTO {
+    private Long id;
+    private String username;
+    private String profileImageUrl;
+    private int storyCount; // public stories, as of the last index rebuild
+}
@@ -0,0 +1,196 @@
+package com.app.loveecho.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 📨 In-process event bus: one bounded queue + one virtual-thread worker per
+// consumer, batched delivery. When a queue stays full past the offer timeout
+// the publishing thread handles the event itself (caller-runs backpressure),
+// so nothing is dropped and memory stays bounded.
+// Stops after the web server so in-flight requests can still publish, and
+// drains every queue before the data sources shut down.
+@Component
+@Slf4j
+public class DomainEventBus implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final List<Lane> lanes = new ArrayList<>();
+
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration drainTimeout;
+
+    private volatile boolean running;
+
+    public DomainEventBus(
+            List<StoryEventConsumer> consumers,
+            MeterRegistry meters,
+            @Value("${events.queue-capacity:10000}") int queueCapacity,
+            @Value("${events.batch-size:100}") int batchSize,
+            @Value("${events.offer-timeout:PT0.05S}") Duration offerTimeout,
+            @Value("${events.drain-timeout:PT10S}") Duration drainTimeout
+    ) {
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.drainTimeout = drainTimeout;
+
+        for (StoryEventConsumer consumer : consumers) {
+            lanes.add(new Lane(consumer, queueCapacity, meters));
+        }
+    }
+
+    /* =========================
+       PUBLISH
+    ========================== */
+    public void publish(StoryEvent event) {
+
+        for (Lane lane : lanes) {
+            lane.published.increment();
+
+            boolean queued = false;
+            if (running) {
+                try {
+                    queued = lane.queue.offer(
+                            event, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (!queued) {
+                // 🐢 backpressure: queue full or bus stopped
+                lane.callerRuns.increment();
+                lane.dispatch(List.of(event));
+            }
+        }
+    }
+
+    /* =========================
+       LIFECYCLE
+    ========================== */
+    @Override
+    public void start() {
+        running = true;
+        for (Lane lane : lanes) {
+            lane.worker = Thread.ofVirtual()
+                    .name("events-" + lane.consumer.name())
+                    .start(() -> lane.run(this));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+
+        for (Lane lane : lanes) {
+            try {
+                long left = deadline - System.nanoTime();
+                if (left > 0) {
+                    lane.worker.join(Duration.ofNanos(left));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (lane.worker.isAlive()) {
+                lane.worker.interrupt();
+                log.warn("Event consumer {} not drained, {} events dropped",
+                        lane.consumer.name(), lane.queue.size());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // below the web server's graceful shutdown phase → stopped after it
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    /* =========================
+       PER-CONSUMER LANE
+    ========================== */
+    private final class Lane {
+
+        final StoryEventConsumer consumer;
+        final BlockingQueue<StoryEvent> queue;
+
+        final Counter published;
+        final Counter processed;
+        final Counter failed;
+        final Counter callerRuns;
+        final Timer batchTimer;
+
+        Thread worker;
+
+        Lane(StoryEventConsumer consumer, int capacity, MeterRegistry meters) {
+            this.consumer = consumer;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+
+            String name = consumer.name();
+            this.published = meters.counter("events.published", "consumer", name);
+            this.processed = meters.counter("events.processed", "consumer", name);
+            this.failed = meters.counter("events.failed", "consumer", name);
+            this.callerRuns = meters.counter("events.caller.runs", "consumer", name);
+            this.batchTimer = meters.timer("events.batch", "consumer", name);
+            meters.gaugeCollectionSize("events.queue.size", Tags.of("consumer", name), queue);
+        }
+
+        void run(DomainEventBus bus) {
+
+            List<StoryEvent> batch = new ArrayList<>(batchSize);
+
+            while (true) {
+                StoryEvent first;
+                try {
+                    first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                if (first == null) {
+                    if (!bus.running) return; // stopped and drained
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                dispatch(batch);
+                batch.clear();
+            }
+        }
+
+        void dispatch(List<StoryEvent> batch) {
+            try {
+                batchTimer.record(() -> consumer.handle(batch));
+                processed.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.error("Event consumer {} failed on {} events",
+                        consumer.name(), batch.size(), e);
+            }
+        }
+    }
+}
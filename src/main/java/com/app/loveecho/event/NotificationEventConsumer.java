@@ -0,0 +1,49 @@
+package com.app.loveecho.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.entity.NotificationType;
+import com.app.loveecho.mongo.document.Notification;
+import com.app.loveecho.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+
+// 🔔 One bulk insert per batch instead of one insert per request
+@Component
+@RequiredArgsConstructor
+public class NotificationEventConsumer implements StoryEventConsumer {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String name() {
+        return "notifications";
+    }
+
+    @Override
+    public void handle(List<StoryEvent> batch) {
+
+        List<Notification> notifications = batch.stream()
+                .map(event -> Notification.builder()
+                        .receiverId(event.owner())
+                        .senderId(event.actor())
+                        .storyId(event.storyId())
+                        .type(typeOf(event))
+                        .read(false)
+                        .createdAt(event.occurredAt())
+                        .build())
+                .toList();
+
+        notificationService.notifyUsers(notifications);
+    }
+
+    private static NotificationType typeOf(StoryEvent event) {
+        return switch (event) {
+            case StoryEvent.StoryReacted r -> NotificationType.LIKE;
+            case StoryEvent.StoryCommented c -> NotificationType.COMMENT;
+            case StoryEvent.StoryBookmarked b -> NotificationType.BOOKMARK;
+        };
+    }
+}
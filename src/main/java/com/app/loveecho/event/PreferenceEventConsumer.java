@@ -0,0 +1,37 @@
+package com.app.loveecho.event;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.service.UserPreferenceService;
+
+import lombok.RequiredArgsConstructor;
+
+// 🧠 Reactions and comments teach the recommendation engine.
+// A batch costs one read + one write per distinct user.
+@Component
+@RequiredArgsConstructor
+public class PreferenceEventConsumer implements StoryEventConsumer {
+
+    private final UserPreferenceService preferenceService;
+
+    @Override
+    public String name() {
+        return "preferences";
+    }
+
+    @Override
+    public void handle(List<StoryEvent> batch) {
+
+        Map<String, List<StoryEvent>> byUser = batch.stream()
+                .filter(event -> !(event instanceof StoryEvent.StoryBookmarked))
+                .collect(Collectors.groupingBy(
+                        StoryEvent::actor, LinkedHashMap::new, Collectors.toList()));
+
+        byUser.forEach(preferenceService::recordInteractions);
+    }
+}
@@ -0,0 +1,59 @@
+package com.app.loveecho.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.jpa.entity.StoryCategory;
+import com.app.loveecho.jpa.entity.Visibility;
+
+// Side effects of an engagement, published after the primary write succeeded.
+// Carries everything consumers need so they never re-read the story.
+public sealed interface StoryEvent {
+
+    String storyId();
+
+    String owner();   // story author (receives notifications)
+
+    String actor();   // user who engaged
+
+    StoryCategory category();
+
+    List<String> hashtags();
+
+    Visibility visibility(); // of the story when engaged with
+
+    LocalDateTime occurredAt();
+
+    record StoryReacted(
+            String storyId,
+            String owner,
+            String actor,
+            StoryCategory category,
+            List<String> hashtags,
+            Visibility visibility,
+            ReactionType reactionType,
+            LocalDateTime occurredAt
+    ) implements StoryEvent {}
+
+    record StoryCommented(
+            String storyId,
+            String owner,
+            String actor,
+            StoryCategory category,
+            List<String> hashtags,
+            Visibility visibility,
+            String commentId,
+            LocalDateTime occurredAt
+    ) implements StoryEvent {}
+
+    record StoryBookmarked(
+            String storyId,
+            String owner,
+            String actor,
+            StoryCategory category,
+            List<String> hashtags,
+            Visibility visibility,
+            LocalDateTime occurredAt
+    ) implements StoryEvent {}
+}
@@ -0,0 +1,12 @@
+package com.app.loveecho.event;
+
+import java.util.List;
+
+// A consumer gets its own queue and worker on the DomainEventBus.
+// Batches preserve publish order.
+public interface StoryEventConsumer {
+
+    String name();
+
+    void handle(List<StoryEvent> batch);
+}
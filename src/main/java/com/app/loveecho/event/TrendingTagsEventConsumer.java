@@ -0,0 +1,34 @@
+package com.app.loveecho.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.service.TrendingHashtagService;
+
+import lombok.RequiredArgsConstructor;
+
+// 📈 Every engagement on a public story counts once for each of its hashtags.
+// Self-engagement is ignored; private stories never reach public trending,
+// whoever engages with them.
+@Component
+@RequiredArgsConstructor
+public class TrendingTagsEventConsumer implements StoryEventConsumer {
+
+    private final TrendingHashtagService trendingHashtags;
+
+    @Override
+    public String name() {
+        return "trending-tags";
+    }
+
+    @Override
+    public void handle(List<StoryEvent> batch) {
+        for (StoryEvent event : batch) {
+            if (event.visibility() == Visibility.PUBLIC && !event.owner().equals(event.actor())) {
+                trendingHashtags.record(event.hashtags(), TrendingHashtagService.ENGAGEMENT_WEIGHT);
+            }
+        }
+    }
+}
@@ -12,6 +12,11 @@ import java.time.LocalDateTime;
 @Table(
     uniqueConstraints = @UniqueConstraint(
         columnNames = {"user_id", "story_id"}
+    ),
+    // 📄 keyset paging of a user's bookmarks, newest first
+    indexes = @Index(
+        name = "idx_bookmark_user_created",
+        columnList = "user_id, created_at, id"
     )
 )
 public class Bookmark {
@@ -26,5 +31,6 @@ public class Bookmark {
     @Column(name = "story_id", nullable = false)
     private String storyId;
 
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 }
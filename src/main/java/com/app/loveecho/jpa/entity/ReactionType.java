@@ -0,0 +1,22 @@
+package com.app.loveecho.jpa.entity;
+
+import com.app.loveecho.exception.BadRequestException;
+
+public enum ReactionType {
+    LIKE,
+    LOVE,
+    HUG,
+    WOW,
+    SAD;
+
+    public static ReactionType parse(String value) {
+        if (value == null || value.isBlank()) return LIKE;
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(
+                    "Invalid reaction. Allowed: LIKE, LOVE, HUG, WOW, SAD"
+            );
+        }
+    }
+}
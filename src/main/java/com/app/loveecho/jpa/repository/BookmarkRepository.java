@@ -1,9 +1,14 @@
 package com.app.loveecho.jpa.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.app.loveecho.jpa.entity.Bookmark;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +16,37 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     Optional<Bookmark> findByUserIdAndStoryId(String userId, String storyId);
 
-    List<Bookmark> findByUserIdOrderByCreatedAtDesc(String userId);
+    // First page; size comes from the Pageable, no count query is run
+    List<Bookmark> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Pageable page);
+
+    // Keyset page strictly after (createdAt, id) in newest-first order
+    @Query("""
+            select b from Bookmark b
+            where b.userId = :userId
+              and (b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id))
+            order by b.createdAt desc, b.id desc
+            """)
+    List<Bookmark> findPageAfter(
+            @Param("userId") String userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable page
+    );
 
     void deleteByUserIdAndStoryId(String userId, String storyId);
+
+    // Served by the (user_id, story_id) unique index
+    @Query("select b.storyId from Bookmark b where b.userId = :userId and b.storyId in :storyIds")
+    List<String> findBookmarkedStoryIds(
+            @Param("userId") String userId,
+            @Param("storyIds") Collection<String> storyIds
+    );
+
+    @Query("select b.storyId as storyId, count(b) as total from Bookmark b group by b.storyId")
+    List<StoryBookmarkCount> countPerStory();
+
+    interface StoryBookmarkCount {
+        String getStoryId();
+        long getTotal();
+    }
 }
@@ -1,10 +1,22 @@
 package com.app.loveecho.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.app.loveecho.jpa.entity.User;
+import com.app.loveecho.push.PushTarget;
+import com.app.loveecho.search.UserEntry;
+
+import jakarta.persistence.QueryHint;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
@@ -12,4 +24,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<User> findByUsernameOrEmail(String username, String email);
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    // 📲 only the token column, for push fan-out
+    @Query("""
+            select new com.app.loveecho.push.PushTarget(u.username, u.pushToken)
+            from User u
+            where u.username in :usernames and u.pushToken is not null
+            """)
+    List<PushTarget> findPushTargets(@Param("usernames") Collection<String> usernames);
+
+    // 🔎 Whole directory for the username index. MySQL only streams rows
+    // (instead of buffering the result set) with fetch size Integer.MIN_VALUE;
+    // needs an open transaction and the caller must close the stream.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("select new com.app.loveecho.search.UserEntry(u.id, u.username, u.profileImageUrl) from User u")
+    Stream<UserEntry> streamDirectory();
+
+    // Conditional so a token re-registered in the meantime survives
+    @Modifying
+    @Transactional
+    @Query("update User u set u.pushToken = null where u.username = :username and u.pushToken = :token")
+    int clearPushToken(@Param("username") String username, @Param("token") String token);
 }
@@ -3,19 +3,29 @@ package com.app.loveecho.mongo.document;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.util.List;
 
+// 💬 One document per comment; a story's comments are read newest first
+// straight off the (storyId, createdAt, _id) index
+@Document(collection = "comments")
+@CompoundIndex(name = "story_createdAt", def = "{'storyId': 1, 'createdAt': -1, '_id': -1}")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Comment {
 
+    @Id
     private String id;
+    private String storyId;
     private String userId; // MySQL User id
     private String text;
     private LocalDateTime createdAt;
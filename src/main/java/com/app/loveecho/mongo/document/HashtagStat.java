@@ -0,0 +1,25 @@
+package com.app.loveecho.mongo.document;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// #️⃣ Public stories per hashtag, maintained with $inc on story writes
+@Document(collection = "hashtags")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagStat {
+
+    @Id
+    private String tag;
+
+    private long storyCount;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.app.loveecho.mongo.document;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One document per completed one-time data migration
+@Document(collection = "migrations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigrationMarker {
+
+    @Id
+    private String id;
+
+    private LocalDateTime completedAt;
+}
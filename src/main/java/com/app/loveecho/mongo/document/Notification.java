@@ -2,13 +2,29 @@ package com.app.loveecho.mongo.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.app.loveecho.jpa.entity.NotificationType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Document(collection = "notifications")
+@CompoundIndexes({
+    // 📄 inbox pages, newest first
+    @CompoundIndex(name = "receiver_createdAt",
+            def = "{ 'receiverId': 1, 'createdAt': -1, '_id': -1 }"),
+    // 🔴 unread count / read-all
+    @CompoundIndex(name = "receiver_read",
+            def = "{ 'receiverId': 1, 'read': 1 }"),
+    // 🧺 one coalesced row per story/type/window (older rows have no bucket)
+    @CompoundIndex(name = "receiver_story_type_bucket",
+            def = "{ 'receiverId': 1, 'storyId': 1, 'type': 1, 'bucket': 1 }",
+            unique = true,
+            partialFilter = "{ 'bucket': { '$exists': true } }")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,13 +35,20 @@ public class Notification {
     private String id;
 
     private String receiverId; // username (who gets notification)
-    private String senderId;   // username (who triggered it)
+    private String senderId;   // username (who triggered it last)
 
     private String storyId;
 
     private NotificationType type; // LIKE, COMMENT, BOOKMARK
 
     private boolean read;
+    private LocalDateTime readAt; // drives the read-notification TTL index
 
-    private LocalDateTime createdAt;
+    private LocalDateTime createdAt; // last activity; bumped when coalesced
+
+    // Coalescing ("alex and 12 others")
+    private LocalDateTime bucket;       // start of the coalescing window
+    private int senderCount;            // distinct senders folded in
+    private List<String> recentSenders; // newest first, capped
+    private List<String> senderIds;     // every distinct sender, up to a cap (dedup set)
 }
@@ -2,18 +2,32 @@ package com.app.loveecho.mongo.document;
 
 import java.time.LocalDateTime;
 
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+// ❤️ One document per (story, user); the unique index keeps it that way
+// under concurrent requests and makes "did I react" a point lookup
+@Document(collection = "reactions")
+@CompoundIndex(name = "story_user", def = "{'storyId': 1, 'userId': 1}", unique = true)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Reaction {
 
+    @Id
+    private String id;
+
+    private String storyId;
     private String userId; // MySQL User id
-    private String type; // LIKE, LOVE, WOW, etc.
+    private ReactionType type;
     private LocalDateTime createdAt;
 }
@@ -3,27 +3,50 @@ package com.app.loveecho.mongo.document;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import com.app.loveecho.jpa.entity.ReactionType;
 import com.app.loveecho.jpa.entity.StoryCategory;
 import com.app.loveecho.jpa.entity.Visibility;
 
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 
 
 @Document(collection = "stories")
+// 📄 Keyset list queries: equality filters first, then (createdAt, _id) desc
+@CompoundIndexes({
+    @CompoundIndex(name = Story.VISIBILITY_CREATED_AT,
+            def = "{ 'visibility': 1, 'createdAt': -1, '_id': -1 }"),
+    @CompoundIndex(name = "user_visibility_createdAt",
+            def = "{ 'userId': 1, 'visibility': 1, 'createdAt': -1, '_id': -1 }"),
+    @CompoundIndex(name = "category_visibility_createdAt",
+            def = "{ 'category': 1, 'visibility': 1, 'createdAt': -1, '_id': -1 }"),
+    // #️⃣ Tag pages; multikey on the hashtags array
+    @CompoundIndex(name = "hashtags_visibility_createdAt",
+            def = "{ 'hashtags': 1, 'visibility': 1, 'createdAt': -1, '_id': -1 }"),
+    // ❤️ Most liked over wide windows: sort on the counter, createdAt filtered
+    // inside the index (short windows sort their visibility_createdAt range)
+    @CompoundIndex(name = "visibility_reactions",
+            def = "{ 'visibility': 1, 'reactionsCount': -1, '_id': -1, 'createdAt': -1 }")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Story {
 
+    public static final String VISIBILITY_CREATED_AT = "visibility_createdAt";
+
     @Id
     private String id;
 
@@ -45,13 +68,15 @@ private List<String> imageUrls = new ArrayList<>();
 
 
     @Builder.Default
-    private List<Comment> comments = new ArrayList<>();
+    private List<String> hashtags = new ArrayList<>();
 
+    // 🔢 Maintained with $inc by the mutation paths
+    private int reactionsCount;
     @Builder.Default
-    private List<Reaction> reactions = new ArrayList<>();
+    private Map<ReactionType, Integer> reactionCounts = new EnumMap<>(ReactionType.class);
+    private int commentsCount;
+    private int bookmarksCount;
 
-    @Builder.Default
-    private List<String> hashtags = new ArrayList<>();
     @CreatedDate
     private LocalDateTime createdAt;
     @LastModifiedDate
@@ -0,0 +1,50 @@
+package com.app.loveecho.mongo.document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.jpa.entity.StoryCategory;
+import com.app.loveecho.jpa.entity.Visibility;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Read-only list view of a story: scalar fields, maintained counters and an
+// excerpt computed by Mongo in the projection.
+@Document(collection = "stories")
+@Data
+@NoArgsConstructor
+public class StorySummary {
+
+    public static final int EXCERPT_LENGTH = 200;
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String title;
+    private String excerpt;
+    private boolean truncated; // excerpt is shorter than the content
+
+    private Visibility visibility;
+    private Boolean anonymous;
+    private StoryCategory category;
+
+    private List<String> imageUrls = new ArrayList<>();
+    private List<String> hashtags = new ArrayList<>();
+
+    private int reactionsCount;
+    private Map<ReactionType, Integer> reactionCounts = new EnumMap<>(ReactionType.class);
+    private int commentsCount;
+    private int bookmarksCount;
+
+    private LocalDateTime createdAt;
+}
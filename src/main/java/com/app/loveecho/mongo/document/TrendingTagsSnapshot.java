@@ -0,0 +1,53 @@
+package com.app.loveecho.mongo.document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 💾 Periodic copy of the trending-hashtag window so a restart keeps it.
+// Sketches are stored as raw int bytes; one document (~1-2 MB).
+@Document(collection = "trending_tag_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingTagsSnapshot {
+
+    public static final String ID = "hashtags";
+
+    @Id
+    private String id;
+
+    private LocalDateTime savedAt;
+
+    private int depth;
+    private int width;
+
+    private long minute; // epoch minute of the newest minute bucket
+    private long hour;   // epoch hour of the newest hour bucket
+
+    private List<Bucket> minutes; // slot order
+    private List<Bucket> hours;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private byte[] sketch;
+        private List<TagCount> top;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TagCount {
+        private String tag;
+        private long count;
+        private long error;
+    }
+}
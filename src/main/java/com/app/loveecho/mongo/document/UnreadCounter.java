@@ -0,0 +1,25 @@
+package com.app.loveecho.mongo.document;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 🔴 Unread notifications per user, maintained with $inc
+@Document(collection = "unread_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCounter {
+
+    @Id
+    private String userId;
+
+    private long count;
+
+    private LocalDateTime updatedAt;
+}
@@ -2,8 +2,10 @@ package com.app.loveecho.mongo.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,17 +16,26 @@ import java.util.Map;
 @Builder
 public class UserPreference {
 
+    // unique; built by UserPreferencesUniqueMigration once duplicates are gone
+    public static final String USER_ID_INDEX = "userId";
+
     @Id
     private String id;
 
     private String userId;
 
+    // Scores as of lastDecayedAt, capped to the top N per map
     @Builder.Default
-    private Map<String, Integer> categoryScores = new HashMap<>();
+    private Map<String, Double> categoryScores = new HashMap<>();
 
     @Builder.Default
-    private Map<String, Integer> hashtagScores = new HashMap<>();
+    private Map<String, Double> hashtagScores = new HashMap<>();
 
     @Builder.Default
-    private Map<String, Integer> authorScores = new HashMap<>();
+    private Map<String, Double> authorScores = new HashMap<>();
+
+    private LocalDateTime lastDecayedAt;
+
+    @Version
+    private Long version;
 }
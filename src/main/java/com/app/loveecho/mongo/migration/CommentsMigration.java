@@ -0,0 +1,105 @@
+package com.app.loveecho.mongo.migration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.mongo.document.Comment;
+import com.app.loveecho.mongo.document.MigrationMarker;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.MigrationMarkerRepository;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Moves the embedded Story.comments arrays into the comments collection,
+// then drops the arrays. Upserts by comment id, so a rerun after a crash is safe.
+// Runs after StoryCountersMigration, which derives commentsCount from the arrays.
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class CommentsMigration implements Migration {
+
+    static final String ID = "story-comments-v1";
+
+    private static final int BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationMarkerRepository markers;
+
+    @Override
+    public void migrate() {
+
+        if (markers.existsById(ID)) return;
+
+        MongoCollection<Document> stories =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(Story.class));
+        MongoCollection<Document> comments =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(Comment.class));
+
+        List<WriteModel<Document>> batch = new ArrayList<>(BATCH);
+        long moved = 0;
+
+        try (MongoCursor<Document> it = stories
+                .find(Filters.exists("comments"))
+                .projection(Projections.include("comments"))
+                .batchSize(200)
+                .iterator()) {
+
+            while (it.hasNext()) {
+                Document story = it.next();
+                String storyId = story.get("_id").toString();
+
+                for (Document embedded : story.getList("comments", Document.class, List.of())) {
+
+                    Object id = embedded.containsKey("_id") ? embedded.get("_id") : embedded.get("id");
+                    String commentId = id != null ? id.toString() : UUID.randomUUID().toString();
+
+                    Document comment = new Document("_id", commentId)
+                            .append("storyId", storyId)
+                            .append("userId", embedded.get("userId"))
+                            .append("text", embedded.get("text"))
+                            .append("createdAt", embedded.get("createdAt"))
+                            .append("likedBy", embedded.getList("likedBy", String.class, List.of()));
+
+                    batch.add(new ReplaceOneModel<>(
+                            Filters.eq("_id", commentId),
+                            comment,
+                            new ReplaceOptions().upsert(true)
+                    ));
+
+                    if (batch.size() == BATCH) {
+                        comments.bulkWrite(batch);
+                        moved += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            comments.bulkWrite(batch);
+            moved += batch.size();
+        }
+
+        stories.updateMany(Filters.exists("comments"), Updates.unset("comments"));
+
+        markers.save(new MigrationMarker(ID, LocalDateTime.now()));
+        log.info("Moved {} embedded comments into their own collection", moved);
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.loveecho.mongo.migration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.bson.Document;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.mongo.document.HashtagStat;
+import com.app.loveecho.mongo.document.MigrationMarker;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.MigrationMarkerRepository;
+import com.app.loveecho.search.HashtagTokenizer;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Re-extracts Story.hashtags with HashtagTokenizer (the old split on single
+// spaces stored "love," and missed tags after newlines), then builds the
+// hashtags stats collection from the public stories in one $out aggregation.
+// Both steps are idempotent, so a rerun after a crash is safe. Runs before
+// traffic (MigrationRunner): a live recordChange $inc landing between the
+// aggregation's read and the $out swap would otherwise be lost.
+@Component
+@Order(5)
+@RequiredArgsConstructor
+@Slf4j
+public class HashtagsMigration implements Migration {
+
+    static final String ID = "story-hashtags-v2"; // v2: tags with combining marks
+
+    private static final int BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationMarkerRepository markers;
+
+    @Override
+    public void migrate() {
+
+        if (markers.existsById(ID)) return;
+
+        MongoCollection<Document> stories =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(Story.class));
+
+        List<WriteModel<Document>> batch = new ArrayList<>(BATCH);
+        long fixed = 0;
+
+        try (MongoCursor<Document> it = stories
+                .find()
+                .projection(Projections.include("content", "hashtags"))
+                .batchSize(500)
+                .iterator()) {
+
+            while (it.hasNext()) {
+                Document story = it.next();
+                List<String> tags = HashtagTokenizer.extract(story.getString("content"));
+
+                if (!Objects.equals(tags, story.getList("hashtags", String.class))) {
+                    batch.add(new UpdateOneModel<>(
+                            Filters.eq("_id", story.get("_id")),
+                            Updates.set("hashtags", tags)
+                    ));
+                    fixed++;
+                }
+
+                if (batch.size() == BATCH) {
+                    stories.bulkWrite(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            stories.bulkWrite(batch);
+        }
+
+        stories.aggregate(List.of(
+                new Document("$match", new Document("visibility", Visibility.PUBLIC.name())),
+                new Document("$unwind", "$hashtags"),
+                new Document("$group", new Document("_id", "$hashtags")
+                        .append("storyCount", new Document("$sum", 1))),
+                new Document("$set", new Document("updatedAt", "$$NOW")),
+                new Document("$out", mongoTemplate.getCollectionName(HashtagStat.class))
+        )).allowDiskUse(true).toCollection();
+
+        markers.save(new MigrationMarker(ID, LocalDateTime.now()));
+        log.info("Re-extracted hashtags on {} stories and rebuilt tag counts", fixed);
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.loveecho.mongo.migration;
+
+// One-off data migration. Implementations are ordered with @Order and run
+// by MigrationRunner before the web server takes traffic, so they never
+// race live writes to the same documents.
+public interface Migration {
+
+    void migrate();
+}
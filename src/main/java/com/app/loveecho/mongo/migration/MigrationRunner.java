@@ -0,0 +1,50 @@
+package com.app.loveecho.mongo.migration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 🧱 Runs every Migration, in @Order, synchronously during context start.
+// Lifecycle beans start by ascending phase and the embedded web server
+// starts near DEFAULT_PHASE, so no request (and no @Scheduled job, which
+// starts after the context refreshed) sees a half-migrated collection.
+// A failing migration fails startup, as an ApplicationRunner would.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MigrationRunner implements SmartLifecycle {
+
+    private final ObjectProvider<Migration> migrations;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        migrations.orderedStream().forEach(migration -> {
+            long started = System.nanoTime();
+            migration.migrate();
+            log.debug("{} checked in {} ms", migration.getClass().getSimpleName(),
+                    (System.nanoTime() - started) / 1_000_000);
+        });
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // first to start: before the web server and the event bus
+        return Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.loveecho.mongo.migration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.mongo.document.MigrationMarker;
+import com.app.loveecho.mongo.document.Notification;
+import com.app.loveecho.mongo.repository.MigrationMarkerRepository;
+import com.mongodb.client.model.Filters;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Stamps readAt = createdAt on notifications that were read before readAt
+// existed, so the read TTL index picks them up. Single filtered updateMany,
+// safe to rerun.
+@Component
+@Order(4)
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationReadAtMigration implements Migration {
+
+    static final String ID = "notification-read-at-v1";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationMarkerRepository markers;
+
+    @Override
+    public void migrate() {
+
+        if (markers.existsById(ID)) return;
+
+        long stamped = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Notification.class))
+                .updateMany(
+                        Filters.and(Filters.eq("read", true), Filters.exists("readAt", false)),
+                        List.of(new Document("$set", new Document("readAt",
+                                new Document("$ifNull", List.of("$createdAt", "$$NOW")))))
+                )
+                .getModifiedCount();
+
+        markers.save(new MigrationMarker(ID, LocalDateTime.now()));
+        log.info("Stamped readAt on {} read notifications", stamped);
+    }
+}
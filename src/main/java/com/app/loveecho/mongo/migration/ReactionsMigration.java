@@ -0,0 +1,146 @@
+package com.app.loveecho.mongo.migration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.mongo.document.MigrationMarker;
+import com.app.loveecho.mongo.document.Reaction;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.MigrationMarkerRepository;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Moves the embedded Story.reactions arrays into the reactions collection,
+// derives reactionsCount / reactionCounts from them, then drops the arrays.
+// Upserts by (storyId, userId), so a rerun after a crash is safe.
+// Unknown legacy types are counted as LIKE.
+@Component
+@Order(3)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactionsMigration implements Migration {
+
+    static final String ID = "story-reactions-v1";
+
+    private static final int BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationMarkerRepository markers;
+
+    @Override
+    public void migrate() {
+
+        if (markers.existsById(ID)) return;
+
+        MongoCollection<Document> stories =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(Story.class));
+        MongoCollection<Document> reactions =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(Reaction.class));
+
+        List<WriteModel<Document>> reactionBatch = new ArrayList<>(BATCH);
+        List<WriteModel<Document>> storyBatch = new ArrayList<>(BATCH);
+        long moved = 0;
+
+        try (MongoCursor<Document> it = stories
+                .find(Filters.exists("reactions"))
+                .projection(Projections.include("reactions"))
+                .batchSize(200)
+                .iterator()) {
+
+            while (it.hasNext()) {
+                Document story = it.next();
+                String storyId = story.get("_id").toString();
+
+                // last reaction per user wins, as the old replace-in-place did
+                Map<String, Document> byUser = new LinkedHashMap<>();
+                for (Document embedded : story.getList("reactions", Document.class, List.of())) {
+                    if (embedded.getString("userId") != null) {
+                        byUser.put(embedded.getString("userId"), embedded);
+                    }
+                }
+
+                Map<ReactionType, Integer> counts = new EnumMap<>(ReactionType.class);
+
+                for (Map.Entry<String, Document> entry : byUser.entrySet()) {
+                    ReactionType type = typeOf(entry.getValue().getString("type"));
+                    counts.merge(type, 1, Integer::sum);
+
+                    Document reaction = new Document("storyId", storyId)
+                            .append("userId", entry.getKey())
+                            .append("type", type.name())
+                            .append("createdAt", entry.getValue().get("createdAt"));
+
+                    reactionBatch.add(new ReplaceOneModel<>(
+                            Filters.and(Filters.eq("storyId", storyId), Filters.eq("userId", entry.getKey())),
+                            reaction,
+                            new ReplaceOptions().upsert(true)
+                    ));
+                    moved++;
+
+                    if (reactionBatch.size() == BATCH) {
+                        flush(reactions, reactionBatch);
+                    }
+                }
+
+                Document countsDoc = new Document();
+                counts.forEach((type, n) -> countsDoc.append(type.name(), n));
+
+                storyBatch.add(new UpdateOneModel<>(
+                        Filters.eq("_id", story.get("_id")),
+                        Updates.combine(
+                                Updates.set("reactionsCount", byUser.size()),
+                                Updates.set("reactionCounts", countsDoc),
+                                Updates.unset("reactions")
+                        )
+                ));
+
+                if (storyBatch.size() == BATCH) {
+                    flush(reactions, reactionBatch);
+                    flush(stories, storyBatch);
+                }
+            }
+        }
+
+        flush(reactions, reactionBatch);
+        flush(stories, storyBatch);
+
+        markers.save(new MigrationMarker(ID, LocalDateTime.now()));
+        log.info("Moved {} embedded reactions into their own collection", moved);
+    }
+
+    private static void flush(MongoCollection<Document> collection, List<WriteModel<Document>> batch) {
+        if (!batch.isEmpty()) {
+            collection.bulkWrite(batch);
+            batch.clear();
+        }
+    }
+
+    private static ReactionType typeOf(String raw) {
+        if (raw == null) return ReactionType.LIKE;
+        try {
+            return ReactionType.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ReactionType.LIKE;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.app.loveecho.mongo.migration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.repository.BookmarkRepository;
+import com.app.loveecho.mongo.document.MigrationMarker;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.MigrationMarkerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Backfills reactionsCount / commentsCount / bookmarksCount on stories
+// written before the counters existed. Runs once per database.
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class StoryCountersMigration implements Migration {
+
+    static final String ID = "story-counters-v1";
+
+    private final MongoTemplate mongoTemplate;
+    private final BookmarkRepository bookmarkRepository;
+    private final MigrationMarkerRepository markers;
+
+    @Override
+    public void migrate() {
+
+        if (markers.existsById(ID)) return;
+
+        // Counts derived server-side from the embedded arrays, one updateMulti
+        AggregationUpdate counts = AggregationUpdate.update()
+                .set("reactionsCount").toValue(ArrayOperators.Size.lengthOfArray(
+                        ConditionalOperators.ifNull("reactions").then(List.of())))
+                .set("commentsCount").toValue(ArrayOperators.Size.lengthOfArray(
+                        ConditionalOperators.ifNull("comments").then(List.of())))
+                .set("bookmarksCount").toValue(0);
+
+        long stories = mongoTemplate.updateMulti(
+                new Query(Criteria.where("reactionsCount").exists(false)),
+                counts,
+                Story.class
+        ).getModifiedCount();
+
+        // Bookmarks live in MySQL: one grouped query, one bulk write
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Story.class);
+        int bookmarked = 0;
+
+        for (BookmarkRepository.StoryBookmarkCount row : bookmarkRepository.countPerStory()) {
+            bulk.updateOne(
+                    new Query(Criteria.where("id").is(row.getStoryId())),
+                    new Update().set("bookmarksCount", row.getTotal())
+            );
+            bookmarked++;
+        }
+
+        if (bookmarked > 0) {
+            bulk.execute();
+        }
+
+        markers.save(new MigrationMarker(ID, LocalDateTime.now()));
+        log.info("Story counters backfilled: {} stories, {} with bookmarks", stories, bookmarked);
+    }
+}
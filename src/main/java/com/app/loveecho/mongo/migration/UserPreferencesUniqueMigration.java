@@ -0,0 +1,97 @@
+package com.app.loveecho.mongo.migration;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.mongo.document.MigrationMarker;
+import com.app.loveecho.mongo.document.UserPreference;
+import com.app.loveecho.mongo.repository.MigrationMarkerRepository;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Racing upserts by userId could leave two preference documents for one
+// user, which makes findByUserId throw. Keeps the most recently written
+// document per user, deletes the others, then swaps the plain userId index
+// for a unique one. The index is built here, after the dedupe, because the
+// entity's @Indexed runs when MongoTemplate starts and would fail on the
+// duplicates (and on the old index of the same name). Safe to rerun.
+@Component
+@Order(6)
+@RequiredArgsConstructor
+@Slf4j
+public class UserPreferencesUniqueMigration implements Migration {
+
+    static final String ID = "user-preferences-unique-v1";
+
+    private static final int BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationMarkerRepository markers;
+
+    @Override
+    public void migrate() {
+
+        if (markers.existsById(ID)) return;
+
+        MongoCollection<Document> prefs =
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(UserPreference.class));
+
+        List<Object> doomed = new ArrayList<>(BATCH);
+        long deleted = 0;
+
+        try (MongoCursor<Document> it = prefs.aggregate(List.of(
+                        Aggregates.sort(Sorts.descending("lastDecayedAt", "version")),
+                        Aggregates.group("$userId",
+                                Accumulators.push("ids", "$_id"),
+                                Accumulators.sum("copies", 1)),
+                        Aggregates.match(Filters.gt("copies", 1))
+                ))
+                .allowDiskUse(true)
+                .iterator()) {
+
+            while (it.hasNext()) {
+                List<Object> ids = it.next().getList("ids", Object.class);
+                doomed.addAll(ids.subList(1, ids.size())); // first is the newest
+
+                if (doomed.size() >= BATCH) {
+                    deleted += prefs.deleteMany(Filters.in("_id", doomed)).getDeletedCount();
+                    doomed.clear();
+                }
+            }
+        }
+
+        if (!doomed.isEmpty()) {
+            deleted += prefs.deleteMany(Filters.in("_id", doomed)).getDeletedCount();
+        }
+
+        IndexOperations indexes = mongoTemplate.indexOps(UserPreference.class);
+        boolean plain = indexes.getIndexInfo().stream()
+                .anyMatch(info -> info.getName().equals(UserPreference.USER_ID_INDEX) && !info.isUnique());
+        if (plain) {
+            indexes.dropIndex(UserPreference.USER_ID_INDEX);
+        }
+        indexes.ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .unique()
+                .named(UserPreference.USER_ID_INDEX));
+
+        markers.save(new MigrationMarker(ID, LocalDateTime.now()));
+        log.info("Removed {} duplicate preference documents; userId is now unique", deleted);
+    }
+}
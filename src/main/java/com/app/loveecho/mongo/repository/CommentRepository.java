@@ -0,0 +1,12 @@
+package com.app.loveecho.mongo.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.app.loveecho.mongo.document.Comment;
+
+public interface CommentRepository extends MongoRepository<Comment, String>, CommentRepositoryCustom {
+
+    boolean existsByIdAndStoryId(String id, String storyId);
+
+    void deleteByStoryId(String storyId);
+}
@@ -0,0 +1,15 @@
+package com.app.loveecho.mongo.repository;
+
+import java.util.List;
+
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.mongo.document.Comment;
+
+public interface CommentRepositoryCustom {
+
+    // Newest first, keyset on (createdAt, id)
+    List<Comment> findPage(String storyId, PageCursor after, int limit);
+
+    // Deletes only when the comment belongs to the story (and to the user, if given)
+    boolean deleteFromStory(String storyId, String commentId, String username);
+}
@@ -0,0 +1,48 @@
+package com.app.loveecho.mongo.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.mongo.document.Comment;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private static final Sort NEWEST_FIRST =
+            Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Comment> findPage(String storyId, PageCursor after, int limit) {
+
+        Criteria filter = Criteria.where("storyId").is(storyId);
+
+        if (after != null) {
+            filter = new Criteria().andOperator(filter, StoryRepositoryImpl.olderThan(after));
+        }
+
+        return mongoTemplate.find(
+                new Query(filter).with(NEWEST_FIRST).limit(limit),
+                Comment.class
+        );
+    }
+
+    @Override
+    public boolean deleteFromStory(String storyId, String commentId, String username) {
+
+        Criteria filter = Criteria.where("id").is(commentId).and("storyId").is(storyId);
+        if (username != null) {
+            filter = filter.and("userId").is(username);
+        }
+
+        return mongoTemplate.remove(new Query(filter), Comment.class).getDeletedCount() > 0;
+    }
+}
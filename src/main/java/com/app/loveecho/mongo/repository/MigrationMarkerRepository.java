@@ -0,0 +1,8 @@
+package com.app.loveecho.mongo.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.app.loveecho.mongo.document.MigrationMarker;
+
+public interface MigrationMarkerRepository extends MongoRepository<MigrationMarker, String> {
+}
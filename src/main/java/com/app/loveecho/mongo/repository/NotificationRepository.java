@@ -1,14 +1,12 @@
 package com.app.loveecho.mongo.repository;
 
-import java.util.List;
-
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import com.app.loveecho.mongo.document.Notification;
 
-public interface NotificationRepository extends MongoRepository<Notification, String> {
-
-    List<Notification> findByReceiverIdOrderByCreatedAtDesc(String receiverId);
+public interface NotificationRepository extends MongoRepository<Notification, String>, NotificationRepositoryCustom {
 
     long countByReceiverIdAndReadFalse(String receiverId);
+
+    boolean existsByIdAndReceiverId(String id, String receiverId);
 }
@@ -0,0 +1,52 @@
+package com.app.loveecho.mongo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.app.loveecho.dto.NotificationResponseDTO;
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.jpa.entity.NotificationType;
+import com.app.loveecho.mongo.document.Notification;
+
+public interface NotificationRepositoryCustom {
+
+    // Inbox page, newest first, projected straight into the DTO
+    List<NotificationResponseDTO> findInboxPage(String receiverId, PageCursor after, int limit);
+
+    // Single updateMulti; with a cursor only rows at or older than it are marked
+    long markAllRead(String receiverId, PageCursor upTo);
+
+    // Atomic filtered update; false when nothing flipped from unread to read
+    boolean markRead(String notificationId, String receiverId);
+
+    // Folds senders into the (receiver, story, type, bucket) row, creating or
+    // re-opening it as needed. reopened = the row was not unread before.
+    // Distinct senders are tracked up to trackSenders per row.
+    Coalesced coalesce(
+            String receiverId,
+            String storyId,
+            NotificationType type,
+            LocalDateTime bucket,
+            List<String> senders,
+            LocalDateTime at,
+            int keepSenders,
+            int trackSenders
+    );
+
+    /* ---------- retention ---------- */
+
+    // Receivers holding more than maxPerUser rows
+    List<String> findReceiversOver(int maxPerUser);
+
+    // Cursor of the oldest row that still fits in the newest `keep`
+    PageCursor findKeepBoundary(String receiverId, int keep);
+
+    // Ids of rows past the boundary
+    List<String> findIdsOlderThan(String receiverId, PageCursor boundary, int limit);
+
+    // Deletes those of the rows whose read flag is `read` right now
+    long deleteByIdsAndRead(Collection<String> ids, boolean read);
+
+    record Coalesced(Notification notification, boolean reopened) {}
+}
@@ -0,0 +1,243 @@
+package com.app.loveecho.mongo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.app.loveecho.dto.NotificationResponseDTO;
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.jpa.entity.NotificationType;
+import com.app.loveecho.mongo.document.Notification;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    private static final Sort NEWEST_FIRST =
+            Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<NotificationResponseDTO> findInboxPage(
+            String receiverId,
+            PageCursor after,
+            int limit
+    ) {
+        Criteria filter = Criteria.where("receiverId").is(receiverId);
+
+        if (after != null) {
+            filter = new Criteria().andOperator(filter, StoryRepositoryImpl.olderThan(after));
+        }
+
+        // 🎯 only the DTO's fields leave the server
+        return mongoTemplate.query(Notification.class)
+                .as(NotificationResponseDTO.class)
+                .matching(new Query(filter).with(NEWEST_FIRST).limit(limit))
+                .all();
+    }
+
+    @Override
+    public long markAllRead(String receiverId, PageCursor upTo) {
+
+        Criteria filter = Criteria.where("receiverId").is(receiverId).and("read").is(false);
+
+        if (upTo != null) {
+            filter = new Criteria().andOperator(
+                    filter,
+                    new Criteria().orOperator(
+                            Criteria.where("createdAt").lt(upTo.time()),
+                            Criteria.where("createdAt").is(upTo.time()).and("id").lte(upTo.id())
+                    )
+            );
+        }
+
+        return mongoTemplate.updateMulti(
+                new Query(filter),
+                markedRead(),
+                Notification.class
+        ).getModifiedCount();
+    }
+
+    @Override
+    public boolean markRead(String notificationId, String receiverId) {
+        return mongoTemplate.updateFirst(
+                new Query(Criteria.where("id").is(notificationId)
+                        .and("receiverId").is(receiverId)
+                        .and("read").is(false)),
+                markedRead(),
+                Notification.class
+        ).getModifiedCount() > 0;
+    }
+
+    private static Update markedRead() {
+        return new Update().set("read", true).set("readAt", LocalDateTime.now());
+    }
+
+    @Override
+    public List<String> findReceiversOver(int maxPerUser) {
+
+        // sorted on receiverId and projected to it first, so this is an
+        // index-only walk of receiver_read instead of a collection scan
+        Aggregation overCap = Aggregation.newAggregation(
+                Aggregation.sort(Sort.Direction.ASC, "receiverId"),
+                Aggregation.project("receiverId").andExclude("_id"),
+                Aggregation.group("receiverId").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(maxPerUser))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        try (Stream<Document> rows = mongoTemplate.aggregateStream(overCap, Notification.class, Document.class)) {
+            return rows.map(row -> row.getString("_id")).toList();
+        }
+    }
+
+    @Override
+    public PageCursor findKeepBoundary(String receiverId, int keep) {
+
+        Query query = new Query(Criteria.where("receiverId").is(receiverId))
+                .with(NEWEST_FIRST)
+                .skip(keep - 1L)
+                .limit(1);
+        query.fields().include("createdAt");
+
+        Notification last = mongoTemplate.findOne(query, Notification.class);
+        return last == null ? null : PageCursor.of(last.getCreatedAt(), last.getId());
+    }
+
+    @Override
+    public List<String> findIdsOlderThan(String receiverId, PageCursor boundary, int limit) {
+
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("receiverId").is(receiverId),
+                StoryRepositoryImpl.olderThan(boundary)
+        )).with(NEWEST_FIRST).limit(limit);
+        query.fields().include("id");
+
+        return mongoTemplate.find(query, Notification.class).stream()
+                .map(Notification::getId)
+                .toList();
+    }
+
+    @Override
+    public long deleteByIdsAndRead(Collection<String> ids, boolean read) {
+        return mongoTemplate.remove(
+                new Query(Criteria.where("id").in(ids).and("read").is(read)),
+                Notification.class
+        ).getDeletedCount();
+    }
+
+    @Override
+    public Coalesced coalesce(
+            String receiverId,
+            String storyId,
+            NotificationType type,
+            LocalDateTime bucket,
+            List<String> senders,
+            LocalDateTime at,
+            int keepSenders,
+            int trackSenders
+    ) {
+        AggregationUpdate update = foldSenders(senders, at, keepSenders, trackSenders);
+
+        // 1️⃣ still unread: fold in place, unread count unchanged
+        Query unreadQuery = new Query(byKey(receiverId, storyId, type, bucket).and("read").is(false));
+        unreadQuery.fields().exclude("senderIds"); // dedup set stays server-side
+
+        Notification unread = mongoTemplate.findAndModify(
+                unreadQuery,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Notification.class
+        );
+        if (unread != null) {
+            return new Coalesced(unread, false);
+        }
+
+        // 2️⃣ read or missing: re-open / create
+        Query query = new Query(byKey(receiverId, storyId, type, bucket));
+        query.fields().exclude("senderIds");
+        FindAndModifyOptions options = FindAndModifyOptions.options()
+                .upsert(true)
+                .returnNew(true);
+
+        Notification reopened;
+        try {
+            reopened = mongoTemplate.findAndModify(query, update, options, Notification.class);
+        } catch (DuplicateKeyException e) {
+            // lost a concurrent first insert: the row exists now, fold into it
+            reopened = mongoTemplate.findAndModify(query, update, options, Notification.class);
+        }
+        return new Coalesced(reopened, true);
+    }
+
+    // Pipeline update so senders are deduplicated against the row's set of
+    // every sender seen (senderIds): a repeat sender (reaction toggles) is
+    // moved to the front of recentSenders without bumping senderCount.
+    // senderIds stops growing at trackSenders to bound the document, so
+    // past that many distinct senders the count becomes an upper bound.
+    // Rows from before senderIds fall back to their recentSenders.
+    private static AggregationUpdate foldSenders(
+            List<String> senders, LocalDateTime at, int keep, int track) {
+
+        Document incoming = new Document("$literal", senders);
+        Document existing = new Document("$ifNull", List.of("$recentSenders", List.of()));
+        Document seen = new Document("$ifNull", List.of("$senderIds", existing));
+
+        Document newSenders = new Document("$size",
+                new Document("$setDifference", List.of(incoming, seen)));
+
+        Document olderOthers = new Document("$filter", new Document("input", existing)
+                .append("cond", new Document("$not", List.of(
+                        new Document("$in", List.of("$$this", incoming))))));
+
+        Document tracked = new Document("$cond", List.of(
+                new Document("$gte", List.of(new Document("$size", seen), track)),
+                seen,
+                new Document("$slice", List.of(
+                        new Document("$setUnion", List.of(seen, incoming)), track))));
+
+        return AggregationUpdate.update()
+                .set("senderCount").toValue(expression(new Document("$add", List.of(
+                        new Document("$ifNull", List.of("$senderCount", 0)),
+                        newSenders))))
+                .set("senderIds").toValue(expression(tracked))
+                .set("recentSenders").toValue(expression(new Document("$slice", List.of(
+                        new Document("$concatArrays", List.of(incoming, olderOthers)),
+                        keep))))
+                .set("senderId").toValue(expression(new Document("$literal", senders.get(0))))
+                .set("read").toValue(false)
+                .unset("readAt")
+                .set("createdAt").toValue(at);
+    }
+
+    private static AggregationExpression expression(Document document) {
+        return context -> document;
+    }
+
+    private static Criteria byKey(
+            String receiverId,
+            String storyId,
+            NotificationType type,
+            LocalDateTime bucket
+    ) {
+        return Criteria.where("receiverId").is(receiverId)
+                .and("storyId").is(storyId)
+                .and("type").is(type)
+                .and("bucket").is(bucket);
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.loveecho.mongo.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import com.app.loveecho.mongo.document.Reaction;
+
+public interface ReactionRepository extends MongoRepository<Reaction, String>, ReactionRepositoryCustom {
+
+    void deleteByStoryId(String storyId);
+
+    // The viewer's reactions on one page of stories
+    @Query(value = "{ 'userId': ?0, 'storyId': { $in: ?1 } }", fields = "{ 'storyId': 1, 'type': 1 }")
+    List<Reaction> findByUserIdAndStoryIdIn(String userId, Collection<String> storyIds);
+}
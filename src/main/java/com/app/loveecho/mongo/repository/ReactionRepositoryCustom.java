@@ -0,0 +1,13 @@
+package com.app.loveecho.mongo.repository;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.mongo.document.Reaction;
+
+public interface ReactionRepositoryCustom {
+
+    // Sets the user's reaction; returns the previous one, or null if new
+    Reaction upsert(String storyId, String userId, ReactionType type);
+
+    // Returns the removed reaction, or null if there was none
+    Reaction remove(String storyId, String userId);
+}
@@ -0,0 +1,50 @@
+package com.app.loveecho.mongo.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.mongo.document.Reaction;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ReactionRepositoryImpl implements ReactionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Reaction upsert(String storyId, String userId, ReactionType type) {
+
+        Query query = byStoryAndUser(storyId, userId);
+        Update update = new Update()
+                .set("type", type)
+                .set("createdAt", LocalDateTime.now());
+
+        FindAndModifyOptions options = FindAndModifyOptions.options()
+                .upsert(true)
+                .returnNew(false);
+
+        try {
+            return mongoTemplate.findAndModify(query, update, options, Reaction.class);
+        } catch (DuplicateKeyException e) {
+            // lost a concurrent first insert: the document exists now, update it
+            return mongoTemplate.findAndModify(query, update, options, Reaction.class);
+        }
+    }
+
+    @Override
+    public Reaction remove(String storyId, String userId) {
+        return mongoTemplate.findAndRemove(byStoryAndUser(storyId, userId), Reaction.class);
+    }
+
+    private static Query byStoryAndUser(String storyId, String userId) {
+        return new Query(Criteria.where("storyId").is(storyId).and("userId").is(userId));
+    }
+}
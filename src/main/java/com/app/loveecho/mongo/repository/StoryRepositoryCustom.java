@@ -0,0 +1,68 @@
+package com.app.loveecho.mongo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.document.StorySummary;
+
+public interface StoryRepositoryCustom {
+
+    // Newest first on (createdAt, id); pass limit = page size + 1
+    List<StorySummary> findSummaries(Criteria criteria, PageCursor after, int limit);
+
+    List<StorySummary> findSummaries(Criteria criteria, Sort sort, int limit);
+
+    // Ranked on the maintained reactionsCount, keyset on (reactionsCount, id)
+    List<StorySummary> findMostReacted(Criteria criteria, PageCursor after, int limit);
+
+    // Same ranking for public stories created since `since`: scans that
+    // createdAt range and sorts it, so the cost follows the window's size
+    List<StorySummary> findMostReactedSince(LocalDateTime since, PageCursor after, int limit);
+
+    List<StorySummary> findSummariesByIds(Collection<String> ids);
+
+    // id, createdAt and counters only, newest first; caller must close
+    Stream<StorySummary> streamPublicEngagement(LocalDateTime since, int limit);
+
+    // id, title, content, category of every public story; caller must close
+    Stream<Story> streamPublicText();
+
+    // hashtags + createdAt of public stories with 2+ tags since a time; caller must close
+    Stream<Story> streamPublicHashtags(LocalDateTime since);
+
+    // public story count per author (userId = username); caller must close
+    Stream<AuthorCount> streamPublicCountsByAuthor();
+
+    // Story fields only (no legacy embedded arrays)
+    Optional<Story> findDetail(String storyId);
+
+    /* Atomic mutations. Each returns the updated story, or null when the
+       filter (existence, visibility, ownership) did not match. */
+
+    // +1 comment, only on public stories
+    Story incrementComments(String storyId);
+
+    // Moves the counters for an added (removed == null), changed or
+    // removed (added == null) reaction
+    Story applyReaction(String storyId, ReactionType added, ReactionType removed);
+
+    Story updateOwned(String storyId, String username, Update update);
+
+    Story toggleVisibility(String storyId, String username);
+
+    void incrementBookmarks(String storyId, int delta);
+
+    void decrementComments(String storyId);
+
+    record AuthorCount(String userId, int stories) {}
+}
@@ -0,0 +1,325 @@
+package com.app.loveecho.mongo.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.document.StorySummary;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class StoryRepositoryImpl implements StoryRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /* =========================
+       PROJECTIONS
+    ========================== */
+
+    // ✂️ Excerpt is cut by Mongo so the full content never leaves the server
+    private static final MongoExpression EXCERPT = MongoExpression.create(
+            "{ $cond: [ { $gt: [ { $strLenCP: { $ifNull: ['$content', ''] } }, "
+                    + StorySummary.EXCERPT_LENGTH + " ] }, "
+                    + "{ $concat: [ { $substrCP: ['$content', 0, "
+                    + StorySummary.EXCERPT_LENGTH + "] }, '…' ] }, "
+                    + "{ $ifNull: ['$content', ''] } ] }"
+    );
+
+    private static final MongoExpression TRUNCATED = MongoExpression.create(
+            "{ $gt: [ { $strLenCP: { $ifNull: ['$content', ''] } }, "
+                    + StorySummary.EXCERPT_LENGTH + " ] }"
+    );
+
+    static Query withSummaryFields(Query query) {
+        Field fields = query.fields()
+                .include("userId", "title", "visibility", "anonymous",
+                        "category", "imageUrls", "hashtags", "createdAt",
+                        "reactionsCount", "reactionCounts", "commentsCount", "bookmarksCount");
+
+        fields.project(EXCERPT).as("excerpt");
+        fields.project(TRUNCATED).as("truncated");
+        return query;
+    }
+
+    // Everything a StoryResponseDTO needs
+    static Query withHeaderFields(Query query) {
+        query.fields()
+                .include("userId", "title", "content", "visibility", "anonymous",
+                        "category", "imageUrls", "hashtags", "createdAt", "updatedAt",
+                        "reactionsCount", "reactionCounts", "commentsCount", "bookmarksCount");
+        return query;
+    }
+
+    /* =========================
+       SUMMARY QUERIES
+    ========================== */
+    private static final Sort NEWEST_FIRST =
+            Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    @Override
+    public List<StorySummary> findSummaries(
+            Criteria criteria,
+            PageCursor after,
+            int limit
+    ) {
+        Criteria filter = after == null
+                ? criteria
+                : new Criteria().andOperator(criteria, olderThan(after));
+
+        Query query = withSummaryFields(new Query(filter))
+                .with(NEWEST_FIRST)
+                .limit(limit);
+
+        return mongoTemplate.find(query, StorySummary.class);
+    }
+
+    // Keyset predicate: strictly after the cursor row in (createdAt desc, id desc) order
+    static Criteria olderThan(PageCursor cursor) {
+        LocalDateTime createdAt = cursor.time();
+        return new Criteria().orOperator(
+                Criteria.where("createdAt").lt(createdAt),
+                Criteria.where("createdAt").is(createdAt).and("id").lt(cursor.id())
+        );
+    }
+
+    @Override
+    public List<StorySummary> findSummaries(Criteria criteria, Sort sort, int limit) {
+
+        Query query = withSummaryFields(new Query(criteria).with(sort));
+        if (limit > 0) {
+            query.limit(limit);
+        }
+
+        return mongoTemplate.find(query, StorySummary.class);
+    }
+
+    private static final Sort MOST_REACTED =
+            Sort.by(Sort.Direction.DESC, "reactionsCount", "id");
+
+    @Override
+    public List<StorySummary> findMostReacted(
+            Criteria criteria,
+            PageCursor after,
+            int limit
+    ) {
+        return mongoTemplate.find(mostReacted(criteria, after, limit), StorySummary.class);
+    }
+
+    // The planner would pick visibility_reactions for the sort and filter
+    // the window while walking it, which in a quiet window means the whole
+    // public index; the hint keeps it on the createdAt range instead
+    @Override
+    public List<StorySummary> findMostReactedSince(
+            LocalDateTime since,
+            PageCursor after,
+            int limit
+    ) {
+        Criteria window = Criteria.where("visibility").is(Visibility.PUBLIC)
+                .and("createdAt").gte(since);
+
+        return mongoTemplate.find(
+                mostReacted(window, after, limit).withHint(Story.VISIBILITY_CREATED_AT),
+                StorySummary.class
+        );
+    }
+
+    private static Query mostReacted(Criteria criteria, PageCursor after, int limit) {
+
+        Criteria filter = criteria;
+
+        if (after != null) {
+            filter = new Criteria().andOperator(
+                    criteria,
+                    new Criteria().orOperator(
+                            Criteria.where("reactionsCount").lt(after.key()),
+                            Criteria.where("reactionsCount").is(after.key())
+                                    .and("id").lt(after.id())
+                    )
+            );
+        }
+
+        return withSummaryFields(new Query(filter))
+                .with(MOST_REACTED)
+                .limit(limit);
+    }
+
+    @Override
+    public List<StorySummary> findSummariesByIds(Collection<String> ids) {
+
+        if (ids.isEmpty()) return List.of();
+
+        return mongoTemplate.find(
+                withSummaryFields(new Query(Criteria.where("id").in(ids))),
+                StorySummary.class
+        );
+    }
+
+    @Override
+    public Stream<StorySummary> streamPublicEngagement(LocalDateTime since, int limit) {
+
+        Query query = new Query(
+                Criteria.where("visibility").is(Visibility.PUBLIC)
+                        .and("createdAt").gte(since)
+        )
+                .with(NEWEST_FIRST)
+                .limit(limit);
+
+        query.fields().include("createdAt", "reactionsCount", "commentsCount");
+
+        return mongoTemplate.stream(query, StorySummary.class);
+    }
+
+    @Override
+    public Stream<Story> streamPublicText() {
+
+        Query query = new Query(Criteria.where("visibility").is(Visibility.PUBLIC));
+        query.fields().include("title", "content", "category");
+        query.cursorBatchSize(500);
+
+        return mongoTemplate.stream(query, Story.class);
+    }
+
+    @Override
+    public Stream<Story> streamPublicHashtags(LocalDateTime since) {
+
+        Query query = new Query(
+                Criteria.where("visibility").is(Visibility.PUBLIC)
+                        .and("hashtags.1").exists(true) // a single tag has no pairs
+                        .and("createdAt").gte(since)
+        );
+        query.fields().include("hashtags", "createdAt");
+        query.cursorBatchSize(500);
+
+        return mongoTemplate.stream(query, Story.class);
+    }
+
+    @Override
+    public Stream<AuthorCount> streamPublicCountsByAuthor() {
+
+        Aggregation perAuthor = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("visibility").is(Visibility.PUBLIC)),
+                Aggregation.group("userId").count().as("count")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregateStream(perAuthor, Story.class, Document.class)
+                .map(row -> new AuthorCount(row.getString("_id"), row.getInteger("count")));
+    }
+
+    @Override
+    public Optional<Story> findDetail(String storyId) {
+
+        Query query = withHeaderFields(new Query(Criteria.where("id").is(storyId)));
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, Story.class));
+    }
+
+    /* =========================
+       ATOMIC MUTATIONS
+    ========================== */
+    @Override
+    public Story incrementComments(String storyId) {
+        return modify(
+                Criteria.where("id").is(storyId)
+                        .and("visibility").is(Visibility.PUBLIC),
+                new Update().inc("commentsCount", 1)
+        );
+    }
+
+    @Override
+    public Story applyReaction(String storyId, ReactionType added, ReactionType removed) {
+
+        Update update = new Update();
+
+        if (added != null) {
+            update.inc("reactionCounts." + added.name(), 1);
+        }
+        if (removed != null) {
+            update.inc("reactionCounts." + removed.name(), -1);
+        }
+        if (removed == null) {
+            update.inc("reactionsCount", 1);
+        } else if (added == null) {
+            update.inc("reactionsCount", -1);
+        }
+
+        return modify(Criteria.where("id").is(storyId), update);
+    }
+
+    @Override
+    public Story updateOwned(String storyId, String username, Update update) {
+        return modify(
+                Criteria.where("id").is(storyId).and("userId").is(username),
+                update
+        );
+    }
+
+    @Override
+    public Story toggleVisibility(String storyId, String username) {
+
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("visibility").toValue(
+                        ConditionalOperators
+                                .when(ComparisonOperators.valueOf("visibility")
+                                        .equalToValue(Visibility.PUBLIC.name()))
+                                .then(Visibility.PRIVATE.name())
+                                .otherwise(Visibility.PUBLIC.name())
+                )
+                .set("updatedAt").toValue(LocalDateTime.now());
+
+        return modify(
+                Criteria.where("id").is(storyId).and("userId").is(username),
+                update
+        );
+    }
+
+    @Override
+    public void incrementBookmarks(String storyId, int delta) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("id").is(storyId)),
+                new Update().inc("bookmarksCount", delta),
+                Story.class
+        );
+    }
+
+    @Override
+    public void decrementComments(String storyId) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("id").is(storyId)),
+                new Update().inc("commentsCount", -1),
+                Story.class
+        );
+    }
+
+    private Story modify(Criteria filter, UpdateDefinition update) {
+        return mongoTemplate.findAndModify(
+                withHeaderFields(new Query(filter)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Story.class
+        );
+    }
+}
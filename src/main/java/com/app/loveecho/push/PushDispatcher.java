@@ -0,0 +1,231 @@
+package com.app.loveecho.push;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 📲 Push delivery worker: bounded queue → one virtual-thread worker that
+// sends batches of up to PushSender.maxBatchSize per provider call.
+// Enqueue never blocks (a full queue drops the push), transient failures are
+// retried with exponential backoff + jitter, invalid tokens are cleared.
+// Stops after the event bus so pushes produced while it drains still go out.
+@Component
+@Slf4j
+public class PushDispatcher implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final PushSender sender;
+    private final UserRepository userRepository;
+
+    private final BlockingQueue<Delivery> queue;
+    private final ScheduledExecutorService retries;
+
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration drainTimeout;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Counter invalidTokens;
+    private final Timer sendTimer;
+    private final Timer deliveryLatency;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PushDispatcher(
+            PushSender sender,
+            UserRepository userRepository,
+            MeterRegistry meters,
+            @Value("${push.queue-capacity:10000}") int queueCapacity,
+            @Value("${push.max-attempts:4}") int maxAttempts,
+            @Value("${push.backoff:PT1S}") Duration backoff,
+            @Value("${push.max-backoff:PT30S}") Duration maxBackoff,
+            @Value("${push.drain-timeout:PT10S}") Duration drainTimeout
+    ) {
+        this.sender = sender;
+        this.userRepository = userRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retries = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("push-retry").daemon().factory());
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.drainTimeout = drainTimeout;
+
+        this.sent = meters.counter("push.sent");
+        this.retried = meters.counter("push.retried");
+        this.failed = meters.counter("push.failed");
+        this.dropped = meters.counter("push.dropped");
+        this.invalidTokens = meters.counter("push.invalid.tokens");
+        this.sendTimer = meters.timer("push.send");
+        this.deliveryLatency = meters.timer("push.delivery.latency");
+        meters.gaugeCollectionSize("push.queue.size", List.of(), queue);
+    }
+
+    /* =========================
+       ENQUEUE
+    ========================== */
+    // Never blocks the caller; false when the push was dropped
+    public boolean enqueue(PushMessage message) {
+        if (running && queue.offer(new Delivery(message, 1, System.nanoTime()))) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /* =========================
+       WORKER
+    ========================== */
+    private void run() {
+
+        int batchSize = Math.max(1, sender.maxBatchSize());
+        List<Delivery> batch = new ArrayList<>(batchSize);
+
+        while (true) {
+            Delivery first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (first == null) {
+                if (!running) return; // stopped and drained
+                continue;
+            }
+
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    private void send(List<Delivery> batch) {
+
+        List<PushResult> results;
+        try {
+            results = sendTimer.record(() -> sender.send(
+                    batch.stream().map(Delivery::message).toList()));
+        } catch (RuntimeException e) {
+            log.warn("Push batch of {} failed: {}", batch.size(), e.getMessage());
+            batch.forEach(this::retry);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Delivery delivery = batch.get(i);
+            PushResult.Status status = i < results.size()
+                    ? results.get(i).status()
+                    : PushResult.Status.RETRY;
+
+            switch (status) {
+                case SENT -> {
+                    sent.increment();
+                    deliveryLatency.record(System.nanoTime() - delivery.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }
+                case INVALID_TOKEN -> dropToken(delivery.message());
+                case RETRY -> retry(delivery);
+            }
+        }
+    }
+
+    private void retry(Delivery delivery) {
+
+        if (delivery.attempt() >= maxAttempts || !running) {
+            failed.increment();
+            return;
+        }
+
+        // 1s, 2s, 4s ... capped, ±50% jitter so a provider blip doesn't resync
+        long base = Math.min(
+                maxBackoff.toMillis(),
+                backoff.toMillis() << Math.min(delivery.attempt() - 1, 20));
+        long delay = base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+
+        retried.increment();
+        retries.schedule(() -> {
+            if (!queue.offer(delivery.nextAttempt())) {
+                dropped.increment();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void dropToken(PushMessage message) {
+        invalidTokens.increment();
+        try {
+            // only if the user hasn't registered a new token meanwhile
+            userRepository.clearPushToken(message.receiverId(), message.token());
+        } catch (RuntimeException e) {
+            log.warn("Could not clear push token of {}", message.receiverId(), e);
+        }
+    }
+
+    /* =========================
+       LIFECYCLE
+    ========================== */
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("push-worker").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        retries.shutdownNow(); // pending retries are best effort
+
+        try {
+            worker.join(drainTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            worker.interrupt();
+            log.warn("Push queue not drained, {} pushes dropped", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // below the event bus → stopped after it has drained into this queue
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private record Delivery(PushMessage message, int attempt, long enqueuedAt) {
+
+        Delivery nextAttempt() {
+            return new Delivery(message, attempt + 1, enqueuedAt);
+        }
+    }
+}
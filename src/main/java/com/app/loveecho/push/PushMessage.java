@@ -0,0 +1,12 @@
+package com.app.loveecho.push;
+
+import java.util.Map;
+
+// One device notification; data is delivered to the app alongside the alert
+public record PushMessage(
+        String receiverId,
+        String token,
+        String title,
+        String body,
+        Map<String, String> data
+) {}
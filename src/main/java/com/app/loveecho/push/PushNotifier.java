@@ -0,0 +1,64 @@
+package com.app.loveecho.push;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.jpa.entity.NotificationType;
+import com.app.loveecho.jpa.repository.UserRepository;
+import com.app.loveecho.mongo.document.Notification;
+
+import lombok.RequiredArgsConstructor;
+
+// 📲 Device pushes follow the coalesced inbox, not raw events: a push goes
+// out when a (story, type, window) row opens or re-opens after being read,
+// never on a fold into a row that is still unread. A popular story or a
+// like toggled on and off therefore pushes at most once per unread row.
+// One token lookup per batch; sending happens on the PushDispatcher worker.
+@Component
+@RequiredArgsConstructor
+public class PushNotifier {
+
+    private final UserRepository userRepository;
+    private final PushDispatcher dispatcher;
+
+    public void rowsOpened(List<Notification> opened) {
+
+        if (opened.isEmpty()) return;
+
+        Map<String, String> tokens = userRepository.findPushTargets(
+                        opened.stream().map(Notification::getReceiverId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(PushTarget::username, PushTarget::pushToken, (a, b) -> a));
+
+        for (Notification row : opened) {
+            String token = tokens.get(row.getReceiverId());
+            if (token == null) continue;
+
+            dispatcher.enqueue(new PushMessage(
+                    row.getReceiverId(),
+                    token,
+                    "Echory",
+                    senders(row) + " " + action(row.getType()),
+                    Map.of("storyId", row.getStoryId(), "type", row.getType().name())
+            ));
+        }
+    }
+
+    // "alex" or "alex and 3 others", like the inbox
+    private static String senders(Notification row) {
+        int others = row.getSenderCount() - 1;
+        if (others <= 0) return row.getSenderId();
+        return row.getSenderId() + " and " + others + (others == 1 ? " other" : " others");
+    }
+
+    private static String action(NotificationType type) {
+        return switch (type) {
+            case LIKE -> "reacted to your story";
+            case COMMENT -> "commented on your story";
+            case BOOKMARK -> "bookmarked your story";
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.app.loveecho.push;
+
+public record PushResult(PushMessage message, Status status) {
+
+    public enum Status {
+        SENT,
+        INVALID_TOKEN, // device unregistered / malformed token: stop sending to it
+        RETRY          // transient provider failure
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.loveecho.push;
+
+import java.util.List;
+
+// Provider transport (Expo push API, FCM multicast, ...). Implementations
+// send a whole batch in as few provider calls as they can and return one
+// result per message, in order. Throwing marks the whole batch for retry.
+public interface PushSender {
+
+    // Largest batch one provider call accepts (Expo: 100, FCM: 500)
+    int maxBatchSize();
+
+    List<PushResult> send(List<PushMessage> batch);
+}
@@ -0,0 +1,4 @@
+package com.app.loveecho.push;
+
+// username -> stored device token, loaded without the rest of the user row
+public record PushTarget(String username, String pushToken) {}
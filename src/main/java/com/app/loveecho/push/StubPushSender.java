@@ -0,0 +1,87 @@
+package com.app.loveecho.push;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 🧪 In-memory sender so the whole pipeline runs offline / under load tests.
+// Simulates one provider round trip per batch, a configurable transient
+// failure rate, and rejects tokens that are not Expo push tokens.
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "stub", matchIfMissing = true)
+public class StubPushSender implements PushSender {
+
+    private static final int RECENT = 100;
+
+    private final int batchSize;
+    private final Duration latency;
+    private final double failureRate;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final Deque<PushMessage> recent = new ConcurrentLinkedDeque<>();
+
+    public StubPushSender(
+            @Value("${push.stub.batch-size:100}") int batchSize,
+            @Value("${push.stub.latency:PT0.02S}") Duration latency,
+            @Value("${push.stub.failure-rate:0.0}") double failureRate
+    ) {
+        this.batchSize = batchSize;
+        this.latency = latency;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public List<PushResult> send(List<PushMessage> batch) {
+
+        try {
+            Thread.sleep(latency); // one "provider call"
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending", e);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<PushResult> results = new ArrayList<>(batch.size());
+
+        for (PushMessage message : batch) {
+            if (!isExpoToken(message.token())) {
+                results.add(new PushResult(message, PushResult.Status.INVALID_TOKEN));
+            } else if (random.nextDouble() < failureRate) {
+                results.add(new PushResult(message, PushResult.Status.RETRY));
+            } else {
+                delivered.incrementAndGet();
+                recent.addFirst(message);
+                if (recent.size() > RECENT) recent.pollLast();
+                results.add(new PushResult(message, PushResult.Status.SENT));
+            }
+        }
+        return results;
+    }
+
+    public long delivered() {
+        return delivered.get();
+    }
+
+    public List<PushMessage> recent() {
+        return List.copyOf(recent);
+    }
+
+    private static boolean isExpoToken(String token) {
+        return token != null
+                && (token.startsWith("ExponentPushToken[") || token.startsWith("ExpoPushToken["))
+                && token.endsWith("]");
+    }
+}
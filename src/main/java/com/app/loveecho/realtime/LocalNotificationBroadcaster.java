@@ -0,0 +1,33 @@
+package com.app.loveecho.realtime;
+
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.dto.NotificationResponseDTO;
+import com.app.loveecho.service.UnreadCounterService;
+
+import lombok.RequiredArgsConstructor;
+
+// Single-instance fan-out straight into the local SseRegistry
+@Component
+@RequiredArgsConstructor
+public class LocalNotificationBroadcaster implements NotificationBroadcaster {
+
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final SseRegistry registry;
+    private final UnreadCounterService unreadCounters;
+
+    @Override
+    public void notificationCreated(String userId, NotificationResponseDTO notification) {
+        registry.send(userId, NOTIFICATION_EVENT, notification);
+    }
+
+    @Override
+    public void unreadCountChanged(String userId) {
+        // skip the counter read for users with nobody listening
+        if (registry.hasSubscribers(userId)) {
+            registry.send(userId, UNREAD_COUNT_EVENT, unreadCounters.get(userId));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.loveecho.realtime;
+
+import com.app.loveecho.dto.NotificationResponseDTO;
+
+// Fan-out of notification changes to live clients. The local implementation
+// only reaches this instance's connections; a multi-instance deployment swaps
+// in one that relays through a shared transport (Redis pub/sub, a broker…)
+// and delivers to each instance's SseRegistry.
+public interface NotificationBroadcaster {
+
+    void notificationCreated(String userId, NotificationResponseDTO notification);
+
+    void unreadCountChanged(String userId);
+}
@@ -0,0 +1,207 @@
+package com.app.loveecho.realtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 📡 Live SSE connections of this instance, per user.
+// SseEmitter runs on async servlet requests, so an idle connection holds a
+// socket and a small object, not a thread. Heartbeats keep proxies from
+// closing idle streams and detect dead clients. Every event, heartbeat or
+// not, is written on virtual threads so one slow socket cannot stall the
+// rest or the caller.
+@Component
+@Slf4j
+public class SseRegistry {
+
+    // events queued for one client that stopped reading; it is then dropped
+    private static final int MAX_QUEUED = 100;
+
+    private final Map<String, Deque<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Duration timeout;
+    private final int maxConnections;
+    private final int maxPerUser;
+
+    public SseRegistry(
+            @Value("${sse.timeout:PT30M}") Duration timeout,
+            @Value("${sse.max-connections:50000}") int maxConnections,
+            @Value("${sse.max-per-user:5}") int maxPerUser
+    ) {
+        this.timeout = timeout;
+        this.maxConnections = maxConnections;
+        this.maxPerUser = maxPerUser;
+    }
+
+    /* =========================
+       SUBSCRIBE
+    ========================== */
+    public SseEmitter subscribe(String userId) {
+
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live connections");
+        }
+
+        Connection connection = new Connection(userId, new SseEmitter(timeout.toMillis()));
+
+        Runnable cleanup = () -> unsubscribe(connection);
+        connection.emitter.onCompletion(cleanup);
+        connection.emitter.onTimeout(cleanup);
+        connection.emitter.onError(e -> cleanup.run());
+
+        // Added under the key's lock, so a concurrent unsubscribe emptying
+        // the deque can't drop it from the map with this connection inside.
+        // The oldest tab/device makes room for the newest one; its slot is
+        // given back here, since its completion callback no longer finds it.
+        List<Connection> evicted = new ArrayList<>();
+        subscribers.compute(userId, (k, existing) -> {
+            Deque<Connection> queue = existing != null ? existing : new ArrayDeque<>();
+            queue.addLast(connection);
+            while (queue.size() > maxPerUser) {
+                evicted.add(queue.pollFirst());
+                connections.decrementAndGet();
+            }
+            return queue;
+        });
+        evicted.forEach(Connection::close);
+
+        return connection.emitter;
+    }
+
+    private void unsubscribe(Connection connection) {
+
+        subscribers.computeIfPresent(connection.userId, (k, queue) -> {
+            if (queue.remove(connection)) {
+                connections.decrementAndGet();
+            }
+            return queue.isEmpty() ? null : queue;
+        });
+    }
+
+    /* =========================
+       SEND
+    ========================== */
+    public boolean hasSubscribers(String userId) {
+        return subscribers.containsKey(userId);
+    }
+
+    // Queues the event on each of the user's connections and returns; the
+    // writes happen on virtual threads, so callers never wait on a socket
+    public void send(String userId, String event, Object data) {
+        forEachConnection(userId, c -> c.enqueue(SseEmitter.event().name(event).data(data)));
+    }
+
+    private void forEachConnection(String userId, Consumer<Connection> action) {
+
+        List<Connection> targets = new ArrayList<>();
+        subscribers.computeIfPresent(userId, (k, queue) -> {
+            targets.addAll(queue);
+            return queue;
+        });
+        targets.forEach(action);
+    }
+
+    /* =========================
+       HEARTBEAT
+    ========================== */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        subscribers.keySet().forEach(userId ->
+                forEachConnection(userId, c -> c.enqueue(SseEmitter.event().comment("ping"))));
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.keySet().forEach(userId -> forEachConnection(userId, Connection::close));
+        senders.shutdown();
+    }
+
+    /* =========================
+       CONNECTION
+    ========================== */
+    // One live stream. Its events are written by at most one virtual thread
+    // at a time, so they arrive in order and a slow socket only holds up
+    // its own outbox.
+    private final class Connection {
+
+        final String userId;
+        final SseEmitter emitter;
+
+        private final Queue<SseEmitter.SseEventBuilder> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+
+            if (queued.incrementAndGet() > MAX_QUEUED) {
+                queued.decrementAndGet();
+                unsubscribe(this);
+                close();
+                return;
+            }
+
+            outbox.add(event);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = outbox.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // client went away; the container calls back onError/onCompletion
+                        // too. draining stays set, so nothing is scheduled for it again.
+                        outbox.clear();
+                        unsubscribe(this);
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!outbox.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        // complete() waits for a write in progress, so it runs off the caller
+        void close() {
+            senders.execute(emitter::complete);
+        }
+    }
+}
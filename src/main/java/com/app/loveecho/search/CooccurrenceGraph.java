@@ -0,0 +1,148 @@
+package com.app.loveecho.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Weighted undirected tag graph. Tags are interned to dense int ids and each
+// node keeps its edges in an open-addressing int → float map, so an edge
+// costs 8 bytes plus load-factor slack and no boxing.
+// Node strength (sum of its edge weights) is kept for normalised scores.
+// Not thread-safe.
+public final class CooccurrenceGraph {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> tags = new ArrayList<>();
+    private final List<Edges> edges = new ArrayList<>();
+    private float[] strength = new float[64];
+
+    public int intern(String tag) {
+        Integer id = ids.get(tag);
+        if (id != null) return id;
+
+        int next = tags.size();
+        ids.put(tag, next);
+        tags.add(tag);
+        edges.add(new Edges());
+        if (next == strength.length) strength = Arrays.copyOf(strength, next * 2);
+        return next;
+    }
+
+    // -1 when the tag was never seen
+    public int idOf(String tag) {
+        Integer id = ids.get(tag);
+        return id == null ? -1 : id;
+    }
+
+    public String tagOf(int id) {
+        return tags.get(id);
+    }
+
+    public float strength(int id) {
+        return strength[id];
+    }
+
+    public Edges edgesOf(int id) {
+        return edges.get(id);
+    }
+
+    public int size() {
+        return tags.size();
+    }
+
+    // Adds (or with a negative weight removes, floored at 0) an edge both ways
+    public void link(int a, int b, float weight) {
+        if (a == b) return;
+        float applied = edges.get(a).add(b, weight);
+        edges.get(b).add(a, weight);
+        strength[a] = Math.max(0, strength[a] + applied);
+        strength[b] = Math.max(0, strength[b] + applied);
+    }
+
+    // Multiplies every weight (decay renormalisation)
+    public void scale(float factor) {
+        for (Edges e : edges) e.scale(factor);
+        for (int i = 0; i < tags.size(); i++) strength[i] *= factor;
+    }
+
+    /* ---------- int → float open-addressing map ---------- */
+    public static final class Edges {
+
+        private static final int EMPTY = -1;
+
+        private int[] keys = newKeys(4);
+        private float[] weights = new float[4];
+        private int size;
+
+        // returns the change actually applied (removals stop at 0)
+        float add(int key, float delta) {
+            int slot = find(key);
+            if (keys[slot] == key) {
+                float before = weights[slot];
+                weights[slot] = Math.max(0, before + delta);
+                return weights[slot] - before;
+            }
+            if (delta <= 0) return 0;
+
+            if ((size + 1) * 4 > keys.length * 3) {
+                grow();
+                slot = find(key);
+            }
+            keys[slot] = key;
+            weights[slot] = delta;
+            size++;
+            return delta;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // visits (neighbour, weight) pairs with a positive weight
+        public void forEach(EdgeVisitor visitor) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && weights[i] > 0) visitor.visit(keys[i], weights[i]);
+            }
+        }
+
+        void scale(float factor) {
+            for (int i = 0; i < weights.length; i++) weights[i] *= factor;
+        }
+
+        private int find(int key) {
+            int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9) >>> 1 & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            float[] oldWeights = weights;
+            keys = newKeys(oldKeys.length * 2);
+            weights = new float[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    weights[slot] = oldWeights[i];
+                }
+            }
+        }
+
+        private static int[] newKeys(int capacity) {
+            int[] k = new int[capacity];
+            Arrays.fill(k, EMPTY);
+            return k;
+        }
+    }
+
+    @FunctionalInterface
+    public interface EdgeVisitor {
+        void visit(int neighbour, float weight);
+    }
+}
@@ -0,0 +1,75 @@
+package com.app.loveecho.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// '#' followed by letters, digits, marks or '_' (any script). The tag ends at the
+// first other character, so "#love," / "#love\n" / "#love!" all give "love".
+// A '#' glued to a word ("c#", "page#top") is not a tag, nor is a bare
+// number ("#1"). Lower-cased, deduplicated, first-seen order.
+public final class HashtagTokenizer {
+
+    public static final int MAX_LENGTH = 50;
+    public static final int MAX_PER_STORY = 30;
+
+    private HashtagTokenizer() {}
+
+    public static List<String> extract(String text) {
+
+        if (text == null || text.isEmpty()) return new ArrayList<>();
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        Set<String> tags = new LinkedHashSet<>();
+
+        int i = 0;
+        while (i < normalized.length() && tags.size() < MAX_PER_STORY) {
+            char c = normalized.charAt(i);
+
+            if (c != '#' || (i > 0 && isTagChar(normalized.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+
+            int end = i + 1;
+            while (end < normalized.length() && isTagChar(normalized.charAt(end))) end++;
+
+            String tag = normalize(normalized.substring(i + 1, end));
+            if (tag != null) tags.add(tag);
+
+            i = end;
+        }
+        return new ArrayList<>(tags);
+    }
+
+    // Canonical form of a tag typed by a user ("#Love" → "love"); null if invalid
+    public static String normalize(String raw) {
+
+        if (raw == null) return null;
+
+        String tag = raw.strip();
+        while (tag.startsWith("#")) tag = tag.substring(1);
+        tag = tag.toLowerCase(Locale.ROOT);
+
+        if (tag.isEmpty() || tag.chars().allMatch(Character::isDigit)) return null;
+        if (!tag.chars().allMatch(ch -> isTagChar((char) ch))) return null;
+
+        return tag.length() > MAX_LENGTH ? tag.substring(0, MAX_LENGTH) : tag;
+    }
+
+    // Combining marks count too: Indic vowel signs and viramas are marks,
+    // not letters, and would otherwise cut "#प्यार" to "प"
+    private static boolean isTagChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || isMark(c);
+    }
+
+    static boolean isMark(char c) {
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+}
@@ -0,0 +1,63 @@
+package com.app.loveecho.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Shared by indexing and querying so both sides produce the same terms:
+// NFKC + lower case, split on anything that is not a letter, digit or mark
+// ('#love' and 'love' are the same term), short and stop words dropped.
+public final class SearchTokenizer {
+
+    static final int MIN_LENGTH = 2;
+    static final int MAX_LENGTH = 32;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for",
+            "if", "in", "into", "is", "it", "no", "not", "of", "on", "or",
+            "so", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "were", "will", "with", "i", "me",
+            "my", "we", "you", "your", "he", "she", "his", "her", "its"
+    );
+
+    private SearchTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) return terms;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length()
+                    && isWordChar(normalized.charAt(i));
+
+            if (wordChar) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                add(terms, normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // letters, digits and combining marks (Indic vowel signs are marks)
+    private static boolean isWordChar(char c) {
+        if (Character.isLetterOrDigit(c)) return true;
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+
+    private static void add(List<String> terms, String term) {
+        if (term.length() < MIN_LENGTH || STOP_WORDS.contains(term)) return;
+        terms.add(term.length() > MAX_LENGTH ? term.substring(0, MAX_LENGTH) : term);
+    }
+}
@@ -0,0 +1,282 @@
+package com.app.loveecho.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.jpa.entity.StoryCategory;
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.StoryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 🔎 In-process inverted index over public stories, BM25 ranked.
+// Postings are append-only; edits tombstone the old doc and append a new one,
+// and the periodic rebuild (streamed from Mongo, swapped in atomically)
+// drops tombstones and picks up writes made by other instances.
+// A query only walks the postings of its own terms, so its cost follows the
+// number of matching stories, not the corpus size.
+@Component
+@Slf4j
+public class StorySearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final StoryRepository storyRepository;
+    private final float titleWeight;
+    private final int maxResults;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pending; // writes seen while a rebuild streams
+
+    public StorySearchIndex(
+            StoryRepository storyRepository,
+            @Value("${search.title-weight:2.0}") float titleWeight,
+            @Value("${search.max-results:1000}") int maxResults
+    ) {
+        this.storyRepository = storyRepository;
+        this.titleWeight = titleWeight;
+        this.maxResults = maxResults;
+    }
+
+    // Deepest rank a search pages to, which bounds the heap below
+    public int maxResults() {
+        return maxResults;
+    }
+
+    /* =========================
+       WRITES
+    ========================== */
+    // Public stories are (re)indexed, anything else is removed
+    public void index(Story story) {
+        if (story.getVisibility() != Visibility.PUBLIC) {
+            remove(story.getId());
+            return;
+        }
+
+        String id = story.getId();
+        String title = story.getTitle();
+        String content = story.getContent();
+        StoryCategory category = story.getCategory();
+
+        write(s -> s.put(id, title, content, category, titleWeight));
+    }
+
+    public void remove(String storyId) {
+        write(s -> s.remove(storyId));
+    }
+
+    private void write(Consumer<Segment> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(segment);
+            if (pending != null) pending.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* =========================
+       SEARCH
+    ========================== */
+    // Facets count every match; the category (optional) only filters the hits
+    public Hits search(String query, StoryCategory category, int offset, int limit) {
+
+        if (offset < 0) throw new IllegalArgumentException("offset must not be negative");
+        int keep = (int) Math.min((long) offset + limit, maxResults);
+
+        List<String> terms = List.copyOf(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+
+        lock.readLock().lock();
+        try {
+            Segment s = segment;
+            if (terms.isEmpty() || s.live == 0) {
+                return new Hits(List.of(), 0, new EnumMap<>(StoryCategory.class));
+            }
+
+            double avgLength = s.totalLength / s.live;
+            Map<Integer, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Postings postings = s.terms.get(term);
+                if (postings == null) continue;
+
+                int df = Math.min(postings.size, s.live);
+                double idf = Math.log(1 + (s.live - df + 0.5) / (df + 0.5));
+
+                for (int i = 0; i < postings.size; i++) {
+                    int docId = postings.docs[i];
+                    Doc doc = s.docs.get(docId);
+                    if (doc == null) continue; // tombstone
+
+                    double tf = postings.tfs[i];
+                    double norm = K1 * (1 - B + B * doc.length() / avgLength);
+                    scores.merge(docId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            Map<StoryCategory, Integer> facets = new EnumMap<>(StoryCategory.class);
+
+            // top (offset + limit), at most maxResults, in a bounded min-heap; newer doc wins a tie
+            Comparator<Map.Entry<Integer, Double>> worstFirst =
+                    Map.Entry.<Integer, Double>comparingByValue()
+                            .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(worstFirst);
+            int total = 0;
+
+            for (Map.Entry<Integer, Double> hit : scores.entrySet()) {
+                StoryCategory docCategory = s.docs.get(hit.getKey()).category();
+                if (docCategory != null) facets.merge(docCategory, 1, Integer::sum);
+
+                if (category != null && category != docCategory) continue;
+                total++;
+
+                heap.offer(hit);
+                if (heap.size() > keep) heap.poll();
+            }
+
+            List<Map.Entry<Integer, Double>> best = new ArrayList<>(heap);
+            best.sort(worstFirst.reversed());
+
+            List<String> ids = best.subList(Math.min(offset, best.size()), best.size())
+                    .stream()
+                    .map(hit -> s.docs.get(hit.getKey()).storyId())
+                    .toList();
+
+            return new Hits(ids, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* =========================
+       REBUILD
+    ========================== */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            initialDelayString = "${search.rebuild-interval:PT6H}",
+            fixedDelayString = "${search.rebuild-interval:PT6H}"
+    )
+    public synchronized void rebuild() {
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try (Stream<Story> stories = storyRepository.streamPublicText()) {
+            stories.forEach(story -> fresh.put(
+                    story.getId(), story.getTitle(), story.getContent(), story.getCategory(), titleWeight));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null; // keep serving the old segment
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // replay what changed while streaming, then swap
+        lock.writeLock().lock();
+        try {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Search index rebuilt: {} stories, {} terms", fresh.live, fresh.terms.size());
+    }
+
+    public record Hits(List<String> ids, int total, Map<StoryCategory, Integer> facets) {}
+
+    /* =========================
+       STORAGE
+    ========================== */
+    private record Doc(String storyId, StoryCategory category, float length) {}
+
+    private static final class Postings {
+
+        int[] docs = new int[4];
+        float[] tfs = new float[4];
+        int size;
+
+        void add(int docId, float tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = docId;
+            tfs[size] = tf;
+            size++;
+        }
+    }
+
+    private static final class Segment {
+
+        final Map<String, Integer> ids = new HashMap<>();
+        final List<Doc> docs = new ArrayList<>(); // docId → doc, null = removed
+        final Map<String, Postings> terms = new HashMap<>();
+
+        int live;
+        double totalLength;
+
+        void put(String storyId, String title, String content, StoryCategory category, float titleWeight) {
+
+            remove(storyId);
+
+            // weighted term frequencies: a title hit counts titleWeight times
+            Map<String, Float> tf = new HashMap<>();
+            SearchTokenizer.tokenize(title).forEach(t -> tf.merge(t, titleWeight, Float::sum));
+            SearchTokenizer.tokenize(content).forEach(t -> tf.merge(t, 1f, Float::sum));
+
+            if (tf.isEmpty()) return;
+
+            float length = 0;
+            for (float f : tf.values()) length += f;
+
+            int docId = docs.size();
+            docs.add(new Doc(storyId, category, length));
+            ids.put(storyId, docId);
+            tf.forEach((term, f) -> terms.computeIfAbsent(term, t -> new Postings()).add(docId, f));
+
+            live++;
+            totalLength += length;
+        }
+
+        void remove(String storyId) {
+            Integer docId = ids.remove(storyId);
+            if (docId == null) return;
+
+            Doc doc = docs.set(docId, null);
+            live--;
+            totalLength -= doc.length();
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.app.loveecho.search;
+
+// id, username and avatar of a user, loaded without the rest of the user row
+public record UserEntry(Long id, String username, String profileImageUrl) {}
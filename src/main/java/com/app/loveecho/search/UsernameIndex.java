@@ -0,0 +1,141 @@
+package com.app.loveecho.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Immutable username directory: parallel arrays sorted by lower-cased
+// username, so a prefix is a binary-searched row range. The key shares the
+// username's String instance when it is already lower case.
+// Ranges wider than maxScan (short prefixes) get their best rows by story
+// count precomputed at build time, so a lookup never walks more than
+// maxScan rows.
+public final class UsernameIndex {
+
+    public static final UsernameIndex EMPTY = build(List.of(), Map.of(), 1, 1);
+
+    private final String[] keys;
+    private final String[] usernames;
+    private final long[] ids;
+    private final String[] avatars;
+    private final int[] storyCounts;
+    private final Map<String, int[]> leaders = new HashMap<>();
+
+    private UsernameIndex(int size) {
+        keys = new String[size];
+        usernames = new String[size];
+        ids = new long[size];
+        avatars = new String[size];
+        storyCounts = new int[size];
+    }
+
+    // storyCounts keyed by username; leaders keep `leaderSize` rows per wide prefix
+    public static UsernameIndex build(
+            List<UserEntry> entries, Map<String, Integer> storyCounts, int maxScan, int leaderSize) {
+
+        UserEntry[] sorted = entries.toArray(UserEntry[]::new);
+        Arrays.sort(sorted, Comparator.comparing(e -> key(e.username())));
+
+        UsernameIndex index = new UsernameIndex(sorted.length);
+        for (int i = 0; i < sorted.length; i++) {
+            UserEntry e = sorted[i];
+            index.keys[i] = key(e.username());
+            index.usernames[i] = e.username();
+            index.ids[i] = e.id();
+            index.avatars[i] = e.profileImageUrl();
+            index.storyCounts[i] = storyCounts.getOrDefault(e.username(), 0);
+        }
+
+        index.buildLeaders("", 0, sorted.length, maxScan, leaderSize);
+        return index;
+    }
+
+    public static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /* ---------- rows ---------- */
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String key(int row) {
+        return keys[row];
+    }
+
+    public UserEntry entry(int row) {
+        return new UserEntry(ids[row], usernames[row], avatars[row]);
+    }
+
+    public int storyCount(int row) {
+        return storyCounts[row];
+    }
+
+    // row of an exact key, or -1
+    public int find(String key) {
+        int row = Arrays.binarySearch(keys, key);
+        return row < 0 ? -1 : row;
+    }
+
+    // first row whose key is >= prefix
+    public int from(String prefix) {
+        int row = Arrays.binarySearch(keys, prefix);
+        return row < 0 ? -row - 1 : row;
+    }
+
+    // first row after `from` whose key does not start with prefix
+    public int to(String prefix, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // precomputed best rows of a range wider than maxScan, or null
+    public int[] leaders(String prefix) {
+        return leaders.get(prefix);
+    }
+
+    // Every prefix whose range is too wide to scan gets its top rows; the
+    // recursion narrows by one character, so the whole build is
+    // O(rows * depth of wide prefixes).
+    private void buildLeaders(String prefix, int from, int to, int maxScan, int leaderSize) {
+
+        if (to - from <= maxScan) return;
+
+        Comparator<Integer> weakestFirst = rowOrder().reversed();
+        PriorityQueue<Integer> heap = new PriorityQueue<>(weakestFirst);
+        for (int row = from; row < to; row++) {
+            heap.offer(row);
+            if (heap.size() > leaderSize) heap.poll();
+        }
+        leaders.put(prefix, heap.stream().sorted(rowOrder()).mapToInt(Integer::intValue).toArray());
+
+        int depth = prefix.length();
+        int row = from;
+        while (row < to && keys[row].length() == depth) row++; // the prefix itself as a username
+
+        while (row < to) {
+            String next = keys[row].substring(0, depth + 1);
+            int end = to(next, row);
+            buildLeaders(next, row, end, maxScan, leaderSize);
+            row = end;
+        }
+    }
+
+    // most stories first, then alphabetical
+    public Comparator<Integer> rowOrder() {
+        return Comparator
+                .comparingInt((Integer row) -> storyCounts[row]).reversed()
+                .thenComparing(row -> keys[row]);
+    }
+}
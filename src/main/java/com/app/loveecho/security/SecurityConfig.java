@@ -1,5 +1,7 @@
 package com.app.loveecho.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +35,9 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())  
             .authorizeHttpRequests(auth -> auth
 
+            // SSE / async re-dispatches of an already authorized request
+            .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
             // AUTH APIs
             .requestMatchers(HttpMethod.GET, "/api/users/*").permitAll()
             .requestMatchers("/api/users/login", "/api/users/register").permitAll()
@@ -42,6 +47,9 @@ public class SecurityConfig {
                 "/api/stories/**"
             ).permitAll()
 
+            // HASHTAG stats / autocomplete
+            .requestMatchers(HttpMethod.GET, "/api/hashtags/**").permitAll()
+
             // PUBLIC STORY READ APIs
             .requestMatchers(
                 "/api/stories",
@@ -1,18 +1,26 @@
 package com.app.loveecho.service;
 
-import com.app.loveecho.dto.StoryResponseDTO;
+import com.app.loveecho.dto.CursorPage;
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.dto.StorySummaryDTO;
+import com.app.loveecho.event.DomainEventBus;
+import com.app.loveecho.event.StoryEvent;
+import com.app.loveecho.exception.BadRequestException;
 import com.app.loveecho.jpa.entity.Bookmark;
-import com.app.loveecho.jpa.entity.NotificationType;
 import com.app.loveecho.jpa.repository.BookmarkRepository;
 import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.document.StorySummary;
 import com.app.loveecho.mongo.repository.StoryRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +28,7 @@ public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
     private final StoryRepository storyRepository;
-    private final NotificationService notificationService;
+    private final DomainEventBus eventBus;
     private final StoryService storyService; // ✅ Injected properly
 
     /* =========================
@@ -37,6 +45,7 @@ public class BookmarkService {
                 .map(existing -> {
                     // ❌ Unbookmark → no notification
                     bookmarkRepository.delete(existing);
+                    storyRepository.incrementBookmarks(storyId, -1);
                     return false;
                 })
                 .orElseGet(() -> {
@@ -48,14 +57,18 @@ public class BookmarkService {
                                     .createdAt(LocalDateTime.now())
                                     .build()
                     );
+                    storyRepository.incrementBookmarks(storyId, 1);
 
-                    // 🔔 Notify story owner
-                    notificationService.notifyUser(
-                            story.getUserId(),     // receiver
-                            username,              // sender
+                    // 🔔 Notify story owner (async)
+                    eventBus.publish(new StoryEvent.StoryBookmarked(
                             story.getId(),
-                            NotificationType.BOOKMARK
-                    );
+                            story.getUserId(),
+                            username,
+                            story.getCategory(),
+                            story.getHashtags(),
+                            story.getVisibility(),
+                            LocalDateTime.now()
+                    ));
 
                     return true;
                 });
@@ -64,17 +77,64 @@ public class BookmarkService {
     /* =========================
        GET MY BOOKMARKED STORIES
     ========================== */
-    public List<StoryResponseDTO> getMyBookmarks(String username) {
+    // One MySQL keyset page + one Mongo $in fetch + one user lookup per page
+    public CursorPage<StorySummaryDTO> getMyBookmarks(
+            String username,
+            String cursor,
+            int size
+    ) {
+        int limit = CursorPage.clampSize(size);
+        PageRequest page = PageRequest.of(0, limit + 1);
 
-        return bookmarkRepository
-                .findByUserIdOrderByCreatedAtDesc(username)
-                .stream()
-                // fetch story safely
-                .map(bookmark ->
-                        storyRepository.findById(bookmark.getStoryId()).orElse(null)
-                )
-                .filter(Objects::nonNull)
-                .map(storyService::mapStoryToDTO)
-                .toList();
+        PageCursor after = PageCursor.decode(cursor);
+
+        List<Bookmark> bookmarks = after == null
+                ? bookmarkRepository.findByUserIdOrderByCreatedAtDescIdDesc(username, page)
+                : bookmarkRepository.findPageAfter(username, after.time(), bookmarkId(after), page);
+
+        CursorPage<Bookmark> rows = CursorPage.of(
+                bookmarks,
+                limit,
+                bookmark -> PageCursor.of(bookmark.getCreatedAt(), String.valueOf(bookmark.getId()))
+        );
+
+        return rows.map(this::loadStories);
+    }
+
+    // Stories in bookmark order; bookmarks of deleted stories are dropped and cleaned up
+    private List<StorySummaryDTO> loadStories(List<Bookmark> bookmarks) {
+
+        Map<String, StorySummary> byId = new HashMap<>();
+        for (StorySummary story : storyRepository.findSummariesByIds(
+                bookmarks.stream().map(Bookmark::getStoryId).toList())) {
+            byId.put(story.getId(), story);
+        }
+
+        List<StorySummary> stories = new ArrayList<>();
+        List<Long> orphaned = new ArrayList<>();
+
+        for (Bookmark bookmark : bookmarks) {
+            StorySummary story = byId.get(bookmark.getStoryId());
+            if (story != null) {
+                stories.add(story);
+            } else {
+                orphaned.add(bookmark.getId());
+            }
+        }
+
+        if (!orphaned.isEmpty()) {
+            bookmarkRepository.deleteAllByIdInBatch(orphaned);
+        }
+
+        // 👥 one user lookup for the whole page
+        return storyService.mapSummariesToDTOs(stories);
+    }
+
+    private static Long bookmarkId(PageCursor cursor) {
+        try {
+            return Long.valueOf(cursor.id());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
     }
 }
@@ -0,0 +1,271 @@
+package com.app.loveecho.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.jpa.entity.StoryCategory;
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.mongo.document.StorySummary;
+import com.app.loveecho.mongo.document.UserPreference;
+import com.app.loveecho.mongo.repository.StoryRepository;
+
+// 🧠 Personalized feed: bounded candidate generation, one scoring pass into a
+// primitive array, then a bounded heap for the top K. Cost depends on the
+// candidate budget, never on the size of the stories collection.
+// The first page ranks afresh; the ranked ids are cached per user (LRU with
+// a TTL) under a random version that the cursor carries, so later pages are
+// one $in read of the same list instead of a new, different ranking.
+@Service
+public class FeedService {
+
+    private static final int TOP_CATEGORIES = 3;
+    private static final int TOP_AUTHORS = 20;
+    private static final int TOP_HASHTAGS = 20;
+
+    private final StoryRepository storyRepository;
+    private final TrendingService trendingService;
+
+    private final int perSource;
+    private final int maxResults;
+    private final Duration rankingTtl;
+
+    private final Map<String, Ranked> rankings; // by user, guarded by itself
+
+    public FeedService(
+            StoryRepository storyRepository,
+            TrendingService trendingService,
+            @Value("${feed.candidates-per-source:100}") int perSource,
+            @Value("${feed.max-results:200}") int maxResults,
+            @Value("${feed.cached-rankings:10000}") int cachedRankings,
+            @Value("${feed.ranking-ttl:PT10M}") Duration rankingTtl
+    ) {
+        this.storyRepository = storyRepository;
+        this.trendingService = trendingService;
+        this.perSource = perSource;
+        this.maxResults = maxResults;
+        this.rankingTtl = rankingTtl;
+        this.rankings = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Ranked> eldest) {
+                return size() > cachedRankings;
+            }
+        };
+    }
+
+    public int maxResults() {
+        return maxResults;
+    }
+
+    /* =========================
+       PAGES
+    ========================== */
+    // version < 0 (first page, or a cursor without one) ranks afresh. An
+    // unknown or expired version also re-ranks and slices the new list at
+    // the same offset.
+    public Page page(String userId, Supplier<UserPreference> pref, long version, int offset, int limit) {
+
+        Ranked ranked = version < 0 ? null : cached(userId, version);
+        List<StorySummary> stories;
+
+        if (ranked == null) {
+            List<StorySummary> all = rank(pref.get(), maxResults);
+            ranked = new Ranked(
+                    ThreadLocalRandom.current().nextLong(Long.MAX_VALUE),
+                    all.stream().map(StorySummary::getId).toList(),
+                    System.nanoTime()
+            );
+            synchronized (rankings) {
+                rankings.put(userId, ranked);
+            }
+            stories = all.subList(Math.min(offset, all.size()), Math.min(offset + limit, all.size()));
+        } else {
+            List<String> ids = ranked.ids()
+                    .subList(Math.min(offset, ranked.ids().size()), Math.min(offset + limit, ranked.ids().size()));
+
+            // re-read for fresh counters; stories made private since drop out
+            Map<String, StorySummary> found = new HashMap<>();
+            for (StorySummary story : storyRepository.findSummariesByIds(ids)) {
+                if (story.getVisibility() == Visibility.PUBLIC) found.put(story.getId(), story);
+            }
+            stories = ids.stream().map(found::get).filter(Objects::nonNull).toList();
+        }
+
+        return new Page(ranked.version(), stories, offset + limit >= ranked.ids().size());
+    }
+
+    private Ranked cached(String userId, long version) {
+        synchronized (rankings) {
+            Ranked ranked = rankings.get(userId);
+            boolean fresh = ranked != null
+                    && ranked.version() == version
+                    && System.nanoTime() - ranked.rankedAt() < rankingTtl.toNanos();
+            return fresh ? ranked : null;
+        }
+    }
+
+    // `stories` of one page; `last` when the ranked list ends with it
+    public record Page(long version, List<StorySummary> stories, boolean last) {}
+
+    private record Ranked(long version, List<String> ids, long rankedAt) {}
+
+    /* =========================
+       RANKING
+    ========================== */
+
+    // Best `limit` candidates, highest score first (ties: newest id first)
+    public List<StorySummary> rank(UserPreference pref, int limit) {
+
+        List<StorySummary> pool = candidates(pref);
+        int n = pool.size();
+
+        // ⚡ each candidate is scored exactly once
+        double[] scores = new double[n];
+        LocalDateTime freshSince = LocalDateTime.now().minusHours(24);
+        for (int i = 0; i < n; i++) {
+            scores[i] = score(pool.get(i), pref, freshSince);
+        }
+
+        Comparator<Integer> byScore = Comparator
+                .<Integer>comparingDouble(i -> scores[i])
+                .thenComparing(i -> pool.get(i).getId());
+
+        int k = Math.min(limit, maxResults);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, byScore);
+
+        for (int i = 0; i < n; i++) {
+            heap.add(i);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        StorySummary[] ranked = new StorySummary[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = pool.get(heap.poll());
+        }
+        return List.of(ranked);
+    }
+
+    /* =========================
+       CANDIDATE GENERATION
+    ========================== */
+    private List<StorySummary> candidates(UserPreference pref) {
+
+        Map<String, StorySummary> pool = new LinkedHashMap<>();
+
+        // 🆕 recent
+        addAll(pool, storyRepository.findSummaries(publicStories(), (PageCursor) null, perSource));
+
+        // 🔥 trending
+        for (StorySummary story : storyRepository.findSummariesByIds(
+                trendingService.current().page(0, perSource))) {
+            if (story.getVisibility() == Visibility.PUBLIC) {
+                pool.putIfAbsent(story.getId(), story);
+            }
+        }
+
+        if (pref == null) {
+            return List.copyOf(pool.values());
+        }
+
+        List<StoryCategory> categories = topKeys(pref.getCategoryScores(), TOP_CATEGORIES)
+                .stream()
+                .flatMap(name -> {
+                    try {
+                        return Stream.of(StoryCategory.valueOf(name));
+                    } catch (IllegalArgumentException e) {
+                        return Stream.empty(); // stale category key
+                    }
+                })
+                .toList();
+        if (!categories.isEmpty()) {
+            addAll(pool, storyRepository.findSummaries(
+                    publicStories().and("category").in(categories), (PageCursor) null, perSource));
+        }
+
+        List<String> authors = topKeys(pref.getAuthorScores(), TOP_AUTHORS);
+        if (!authors.isEmpty()) {
+            addAll(pool, storyRepository.findSummaries(
+                    publicStories().and("userId").in(authors), (PageCursor) null, perSource));
+        }
+
+        List<String> hashtags = topKeys(pref.getHashtagScores(), TOP_HASHTAGS);
+        if (!hashtags.isEmpty()) {
+            addAll(pool, storyRepository.findSummaries(
+                    publicStories().and("hashtags").in(hashtags), (PageCursor) null, perSource));
+        }
+
+        return List.copyOf(pool.values());
+    }
+
+    private static void addAll(Map<String, StorySummary> pool, List<StorySummary> stories) {
+        for (StorySummary story : stories) {
+            pool.putIfAbsent(story.getId(), story);
+        }
+    }
+
+    private static List<String> topKeys(Map<String, Double> scores, int n) {
+        if (scores == null || scores.isEmpty()) return List.of();
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(n)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Criteria publicStories() {
+        return Criteria.where("visibility").is(Visibility.PUBLIC);
+    }
+
+    /* =========================
+       SCORING
+    ========================== */
+    private static double score(StorySummary story, UserPreference pref, LocalDateTime freshSince) {
+
+        double score = 0;
+
+        // Base popularity
+        score += story.getReactionsCount() * 3;
+        score += story.getCommentsCount() * 2;
+
+        // Freshness boost
+        if (story.getCreatedAt() != null && story.getCreatedAt().isAfter(freshSince)) {
+            score += 5;
+        }
+
+        if (pref == null) return score;
+
+        // Category match
+        score += pref.getCategoryScores()
+                .getOrDefault(story.getCategory().name(), 0.0) * 4;
+
+        // Author affinity
+        score += pref.getAuthorScores()
+                .getOrDefault(story.getUserId(), 0.0) * 5;
+
+        // Hashtag affinity
+        if (story.getHashtags() != null) {
+            for (String tag : story.getHashtags()) {
+                score += pref.getHashtagScores().getOrDefault(tag, 0.0) * 2;
+            }
+        }
+
+        return score;
+    }
+}
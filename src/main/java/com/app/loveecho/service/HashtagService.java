@@ -0,0 +1,236 @@
+package com.app.loveecho.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.dto.HashtagDTO;
+import com.app.loveecho.exception.BadRequestException;
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.mongo.document.HashtagStat;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.search.HashtagTokenizer;
+
+import lombok.extern.slf4j.Slf4j;
+
+// #️⃣ Per-tag public story counts (hashtags collection, $inc on story writes)
+// and prefix autocomplete from an in-memory sorted array: binary search to
+// the prefix range, then the most used tags in it. A lookup scans at most
+// maxScan tags: prefixes with wider ranges (one or two letters) get their
+// most used tags precomputed on refresh. The array is rebuilt from the
+// collection in the background, so suggestions lag writes by at most the
+// refresh interval.
+@Service
+@Slf4j
+public class HashtagService {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxTags;
+    private final int maxScan;
+
+    private volatile Suggestions suggestions = new Suggestions(new String[0], new long[0], Map.of());
+
+    public HashtagService(
+            MongoTemplate mongoTemplate,
+            @Value("${hashtags.suggest-max-tags:200000}") int maxTags,
+            @Value("${hashtags.suggest-max-scan:2000}") int maxScan
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxTags = maxTags;
+        this.maxScan = maxScan;
+    }
+
+    // Tags a story contributes to the counts: only public stories count
+    public static List<String> publicTags(Story story) {
+        if (story == null || story.getVisibility() != Visibility.PUBLIC || story.getHashtags() == null) {
+            return List.of();
+        }
+        return story.getHashtags();
+    }
+
+    /* =========================
+       COUNTERS
+    ========================== */
+    // One bulk upsert moving the counts from the old tag set to the new one
+    public void recordChange(Collection<String> before, Collection<String> after) {
+
+        Map<String, Long> delta = new HashMap<>();
+        before.forEach(tag -> delta.merge(tag, -1L, Long::sum));
+        after.forEach(tag -> delta.merge(tag, 1L, Long::sum));
+        delta.values().removeIf(n -> n == 0);
+
+        if (delta.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, HashtagStat.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        delta.forEach((tag, n) -> bulk.upsert(
+                new Query(Criteria.where("tag").is(tag)),
+                new Update().inc("storyCount", n).set("updatedAt", now)
+        ));
+        bulk.execute();
+    }
+
+    public HashtagDTO getStats(String rawTag) {
+
+        String tag = HashtagTokenizer.normalize(rawTag);
+        if (tag == null) {
+            throw new BadRequestException("Invalid hashtag");
+        }
+
+        HashtagStat stat = mongoTemplate.findById(tag, HashtagStat.class);
+
+        return new HashtagDTO(tag, stat == null ? 0 : Math.max(0, stat.getStoryCount()));
+    }
+
+    /* =========================
+       AUTOCOMPLETE
+    ========================== */
+    public List<HashtagDTO> suggest(String rawPrefix, int limit) {
+
+        String prefix = HashtagTokenizer.normalize(rawPrefix);
+        if (prefix == null) return List.of();
+
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        Suggestions s = suggestions;
+
+        int from = Arrays.binarySearch(s.tags(), prefix);
+        if (from < 0) from = -from - 1;
+        int to = end(s.tags(), prefix, from);
+
+        List<Integer> best;
+        int[] leaders = to - from > maxScan ? s.leaders().get(prefix) : null;
+
+        if (leaders != null) {
+            best = Arrays.stream(leaders).limit(size).boxed().toList();
+        } else {
+            // most used `size` tags of the prefix range in a bounded min-heap
+            Comparator<Integer> leastUsedFirst = mostUsedFirst(s.tags(), s.counts()).reversed();
+            PriorityQueue<Integer> heap = new PriorityQueue<>(leastUsedFirst);
+
+            for (int i = from; i < Math.min(to, from + maxScan); i++) {
+                heap.offer(i);
+                if (heap.size() > size) heap.poll();
+            }
+
+            best = new ArrayList<>(heap);
+            best.sort(leastUsedFirst.reversed());
+        }
+
+        return best.stream()
+                .map(i -> new HashtagDTO(s.tags()[i], s.counts()[i]))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            initialDelayString = "${hashtags.refresh-interval:PT1M}",
+            fixedDelayString = "${hashtags.refresh-interval:PT1M}"
+    )
+    public void refresh() {
+
+        // tags whose last public story went away
+        mongoTemplate.remove(
+                new Query(Criteria.where("storyCount").lte(0)), HashtagStat.class);
+
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.DESC, "storyCount"))
+                .limit(maxTags);
+        query.fields().include("storyCount");
+
+        List<HashtagStat> stats = new ArrayList<>();
+        try (Stream<HashtagStat> rows = mongoTemplate.stream(query, HashtagStat.class)) {
+            rows.forEach(stats::add);
+        }
+
+        // Java string order, so binarySearch/startsWith agree with it
+        stats.sort(Comparator.comparing(HashtagStat::getTag));
+
+        String[] tags = new String[stats.size()];
+        long[] counts = new long[stats.size()];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = stats.get(i).getTag();
+            counts[i] = stats.get(i).getStoryCount();
+        }
+
+        Map<String, int[]> leaders = new HashMap<>();
+        buildLeaders(tags, counts, "", 0, tags.length, leaders);
+
+        suggestions = new Suggestions(tags, counts, leaders);
+        log.debug("Hashtag suggestions refreshed: {} tags, {} wide prefixes", tags.length, leaders.size());
+    }
+
+    // Most used tags of every prefix range wider than maxScan, narrowing one
+    // character at a time: O(tags * depth of wide prefixes) per refresh
+    private void buildLeaders(
+            String[] tags, long[] counts, String prefix, int from, int to, Map<String, int[]> leaders) {
+
+        if (to - from <= maxScan) return;
+
+        Comparator<Integer> leastUsedFirst = mostUsedFirst(tags, counts).reversed();
+        PriorityQueue<Integer> heap = new PriorityQueue<>(leastUsedFirst);
+        for (int i = from; i < to; i++) {
+            heap.offer(i);
+            if (heap.size() > MAX_SUGGESTIONS) heap.poll();
+        }
+        leaders.put(prefix, heap.stream()
+                .sorted(leastUsedFirst.reversed())
+                .mapToInt(Integer::intValue)
+                .toArray());
+
+        int depth = prefix.length();
+        int i = from;
+        while (i < to && tags[i].length() == depth) i++; // the prefix itself as a tag
+
+        while (i < to) {
+            String next = tags[i].substring(0, depth + 1);
+            int end = end(tags, next, i);
+            buildLeaders(tags, counts, next, i, end, leaders);
+            i = end;
+        }
+    }
+
+    // first index after `from` whose tag does not start with prefix
+    private static int end(String[] tags, String prefix, int from) {
+        int low = from;
+        int high = tags.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tags[mid].startsWith(prefix)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static Comparator<Integer> mostUsedFirst(String[] tags, long[] counts) {
+        return Comparator
+                .comparingLong((Integer i) -> counts[i]).reversed()
+                .thenComparing(i -> tags[i]);
+    }
+
+    private record Suggestions(String[] tags, long[] counts, Map<String, int[]> leaders) {}
+}
@@ -0,0 +1,174 @@
+package com.app.loveecho.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.mongo.document.Notification;
+import com.app.loveecho.mongo.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 🧹 Keeps the notifications collection bounded:
+//  - read rows expire through a partial TTL index on readAt (Mongo's TTL
+//    monitor does the deletes, nothing to run here)
+//  - a periodic job caps every inbox at the newest N rows, deleting the rest
+//    in small id batches with a pause in between so it never hogs the primary
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    static final String TTL_INDEX = "read_ttl";
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounterService unreadCounters;
+
+    private final Duration readTtl;
+    private final int maxPerUser;
+    private final int batchSize;
+    private final Duration pause;
+
+    private final Counter purged;
+    private final Counter purgedUnread;
+    private final Counter usersCapped;
+    private final Timer runs;
+
+    public NotificationRetentionService(
+            MongoTemplate mongoTemplate,
+            NotificationRepository notificationRepository,
+            UnreadCounterService unreadCounters,
+            MeterRegistry meters,
+            @Value("${notifications.read-ttl:P30D}") Duration readTtl,
+            @Value("${notifications.max-per-user:500}") int maxPerUser,
+            @Value("${notifications.compaction.batch-size:500}") int batchSize,
+            @Value("${notifications.compaction.pause:PT0.1S}") Duration pause
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.notificationRepository = notificationRepository;
+        this.unreadCounters = unreadCounters;
+        this.readTtl = readTtl;
+        this.maxPerUser = Math.max(1, maxPerUser);
+        this.batchSize = Math.max(1, batchSize);
+        this.pause = pause;
+
+        this.purged = Counter.builder("notifications.compaction.purged")
+                .description("Notifications deleted by the inbox cap")
+                .register(meters);
+        this.purgedUnread = Counter.builder("notifications.compaction.purged.unread")
+                .description("Unread notifications deleted by the inbox cap")
+                .register(meters);
+        this.usersCapped = Counter.builder("notifications.compaction.users")
+                .description("Inboxes trimmed by the inbox cap")
+                .register(meters);
+        this.runs = Timer.builder("notifications.compaction")
+                .register(meters);
+    }
+
+    /* =========================
+       TTL INDEX
+    ========================== */
+    // Built here rather than on the entity so the age is configurable;
+    // a changed age is applied in place with collMod.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTtlIndex() {
+
+        Index ttl = new Index()
+                .on("readAt", Sort.Direction.ASC)
+                .named(TTL_INDEX)
+                .expire(readTtl)
+                .partial(PartialIndexFilter.of(Criteria.where("readAt").exists(true)));
+
+        try {
+            mongoTemplate.indexOps(Notification.class).ensureIndex(ttl);
+        } catch (DataAccessException e) {
+            mongoTemplate.executeCommand(new Document("collMod", mongoTemplate.getCollectionName(Notification.class))
+                    .append("index", new Document("name", TTL_INDEX)
+                            .append("expireAfterSeconds", readTtl.toSeconds())));
+            log.info("Notification TTL changed to {}", readTtl);
+        }
+    }
+
+    /* =========================
+       INBOX CAP
+    ========================== */
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            initialDelayString = "${notifications.compaction.interval:PT1H}",
+            fixedDelayString = "${notifications.compaction.interval:PT1H}"
+    )
+    public void compact() {
+        runs.record(() -> {
+            long deleted = 0;
+            List<String> receivers = notificationRepository.findReceiversOver(maxPerUser);
+
+            for (String receiverId : receivers) {
+                deleted += trim(receiverId);
+                usersCapped.increment();
+                if (Thread.currentThread().isInterrupted()) break;
+            }
+
+            if (deleted > 0) {
+                log.info("Notification compaction: {} rows purged across {} inboxes", deleted, receivers.size());
+            }
+        });
+    }
+
+    private long trim(String receiverId) {
+
+        PageCursor boundary = notificationRepository.findKeepBoundary(receiverId, maxPerUser);
+        if (boundary == null) return 0;
+
+        long deleted = 0;
+        while (true) {
+            List<String> batch =
+                    notificationRepository.findIdsOlderThan(receiverId, boundary, batchSize);
+            if (batch.isEmpty()) break;
+
+            // The read flag is checked by the deletes themselves, so a row
+            // marked read (and already decremented) in the meantime is not
+            // decremented again. A row re-opened between the two deletes
+            // stays for the next batch.
+            long unread = notificationRepository.deleteByIdsAndRead(batch, false);
+            long read = notificationRepository.deleteByIdsAndRead(batch, true);
+
+            if (unread > 0) {
+                unreadCounters.decrement(receiverId, unread);
+                purgedUnread.increment(unread);
+            }
+            purged.increment(unread + read);
+            deleted += unread + read;
+
+            if (batch.size() < batchSize || !pause()) break;
+        }
+        return deleted;
+    }
+
+    // 🐢 throttle between batches; false when interrupted (shutdown)
+    private boolean pause() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
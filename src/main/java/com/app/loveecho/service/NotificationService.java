@@ -1,22 +1,68 @@
 package com.app.loveecho.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.app.loveecho.dto.CursorPage;
 import com.app.loveecho.dto.NotificationResponseDTO;
+import com.app.loveecho.dto.PageCursor;
 import com.app.loveecho.jpa.entity.NotificationType;
 import com.app.loveecho.mongo.document.Notification;
 import com.app.loveecho.mongo.repository.NotificationRepository;
-
-import lombok.RequiredArgsConstructor;
-
+import com.app.loveecho.mongo.repository.NotificationRepositoryCustom.Coalesced;
+import com.app.loveecho.push.PushNotifier;
+import com.app.loveecho.realtime.NotificationBroadcaster;
+import com.app.loveecho.realtime.SseRegistry;
+
+// 🧺 Likes/comments/bookmarks on the same story are coalesced per time window
+// into one row ("alex and 12 others liked your story") instead of one
+// document per interaction.
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadCounterService unreadCounters;
+    private final NotificationBroadcaster broadcaster;
+    private final SseRegistry sseRegistry;
+    private final PushNotifier pushNotifier;
+
+    private final long windowSeconds;
+    private final int recentSenders;
+    private final int trackedSenders;
+
+    public NotificationService(
+            NotificationRepository notificationRepository,
+            UnreadCounterService unreadCounters,
+            NotificationBroadcaster broadcaster,
+            SseRegistry sseRegistry,
+            PushNotifier pushNotifier,
+            @Value("${notifications.coalesce-window:PT1H}") Duration window,
+            @Value("${notifications.recent-senders:3}") int recentSenders,
+            @Value("${notifications.tracked-senders:1000}") int trackedSenders
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounters = unreadCounters;
+        this.broadcaster = broadcaster;
+        this.sseRegistry = sseRegistry;
+        this.pushNotifier = pushNotifier;
+        this.windowSeconds = Math.max(1, window.toSeconds());
+        this.recentSenders = recentSenders;
+        this.trackedSenders = trackedSenders;
+    }
 
     /* =========================
        CREATE NOTIFICATION
@@ -39,15 +85,100 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        notificationRepository.save(notification);
+        notifyUsers(List.of(notification));
+    }
+
+    // Batch variant used by the event pipeline
+    public void notifyUsers(List<Notification> notifications) {
+
+        List<Notification> toSave = notifications.stream()
+                .filter(n -> !n.getReceiverId().equals(n.getSenderId()))
+                .toList();
+
+        if (toSave.isEmpty()) return;
+
+        // fold the batch itself first: one upsert per row, not per event
+        Map<CoalesceKey, List<Notification>> groups = toSave.stream().collect(Collectors.groupingBy(
+                n -> new CoalesceKey(n.getReceiverId(), n.getStoryId(), n.getType(), bucketOf(n.getCreatedAt())),
+                LinkedHashMap::new,
+                Collectors.toList()
+        ));
+
+        Map<String, Long> reopened = new HashMap<>();
+        Set<String> receivers = new LinkedHashSet<>();
+        List<Notification> opened = new ArrayList<>();
+
+        groups.forEach((key, group) -> {
+
+            List<Notification> newestFirst = group.stream()
+                    .sorted(Comparator.comparing(Notification::getCreatedAt).reversed())
+                    .toList();
+
+            Coalesced result = notificationRepository.coalesce(
+                    key.receiverId(),
+                    key.storyId(),
+                    key.type(),
+                    key.bucket(),
+                    newestFirst.stream().map(Notification::getSenderId).distinct().toList(),
+                    newestFirst.get(0).getCreatedAt(),
+                    recentSenders,
+                    trackedSenders
+            );
+
+            if (result.reopened()) {
+                reopened.merge(key.receiverId(), 1L, Long::sum);
+                opened.add(result.notification());
+            }
+            receivers.add(key.receiverId());
+
+            // 📡 live clients get the updated row
+            broadcaster.notificationCreated(key.receiverId(), toDTO(result.notification()));
+        });
+
+        unreadCounters.increment(reopened);
+        receivers.forEach(broadcaster::unreadCountChanged);
+
+        // 📲 one push per opened / re-opened row, none per fold
+        pushNotifier.rowsOpened(opened);
+    }
+
+    // Start of the fixed window the timestamp falls into
+    private LocalDateTime bucketOf(LocalDateTime at) {
+        long seconds = at.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(
+                seconds - Math.floorMod(seconds, windowSeconds), 0, ZoneOffset.UTC);
+    }
+
+    /* =========================
+       LIVE STREAM
+    ========================== */
+    public SseEmitter openStream(String username) {
+        SseEmitter emitter = sseRegistry.subscribe(username);
+        broadcaster.unreadCountChanged(username); // current count on connect
+        return emitter;
     }
 
     /* =========================
        GET NOTIFICATIONS
     ========================== */
-    public List<Notification> getNotifications(String username) {
-        return notificationRepository
-                .findByReceiverIdOrderByCreatedAtDesc(username);
+    public CursorPage<NotificationResponseDTO> getInbox(
+            String username,
+            String cursor,
+            int size
+    ) {
+        int limit = CursorPage.clampSize(size);
+
+        List<NotificationResponseDTO> rows = notificationRepository.findInboxPage(
+                username,
+                PageCursor.decode(cursor),
+                limit + 1
+        );
+
+        return CursorPage.of(
+                rows,
+                limit,
+                n -> PageCursor.of(n.getCreatedAt(), n.getId())
+        );
     }
 
     /* =========================
@@ -55,38 +186,55 @@ public class NotificationService {
     ========================== */
     public void markAsRead(String notificationId, String username) {
 
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("Notification not found"));
+        // ⚛️ one filtered update; the receiver check is part of the filter
+        if (notificationRepository.markRead(notificationId, username)) {
+            unreadCounters.decrement(username, 1);
+            broadcaster.unreadCountChanged(username);
+            return;
+        }
 
-        // Safety check
-        if (!notification.getReceiverId().equals(username)) {
-            throw new RuntimeException("Unauthorized");
+        // already read
+        if (notificationRepository.existsByIdAndReceiverId(notificationId, username)) return;
+
+        if (!notificationRepository.existsById(notificationId)) {
+            throw new RuntimeException("Notification not found");
         }
+        throw new RuntimeException("Unauthorized");
+    }
 
-        notification.setRead(true);
-        notificationRepository.save(notification);
+    public long markAllAsRead(String username, String cursor) {
+        long updated = notificationRepository.markAllRead(username, PageCursor.decode(cursor));
+        unreadCounters.decrement(username, updated);
+        if (updated > 0) {
+            broadcaster.unreadCountChanged(username);
+        }
+        return updated;
     }
 
     /* =========================
        UNREAD COUNT
     ========================== */
     public long getUnreadCount(String username) {
-            return notificationRepository.countByReceiverIdAndReadFalse(username);
-        }
+        return unreadCounters.get(username);
+    }
 
-        public List<NotificationResponseDTO> getNotificationsDTO(String username) {
-
-        return notificationRepository
-                .findByReceiverIdOrderByCreatedAtDesc(username)
-                .stream()
-                .map(notification -> NotificationResponseDTO.builder()
-                        .id(notification.getId())
-                        .senderId(notification.getSenderId())
-                        .storyId(notification.getStoryId())
-                        .type(notification.getType().name())
-                        .read(notification.isRead())
-                        .createdAt(notification.getCreatedAt())
-                        .build())
-                .toList();
+    private static NotificationResponseDTO toDTO(Notification notification) {
+        return NotificationResponseDTO.builder()
+                .id(notification.getId())
+                .senderId(notification.getSenderId())
+                .storyId(notification.getStoryId())
+                .type(notification.getType().name())
+                .read(notification.isRead())
+                .createdAt(notification.getCreatedAt())
+                .senderCount(notification.getSenderCount())
+                .recentSenders(notification.getRecentSenders())
+                .build();
     }
+
+    private record CoalesceKey(
+            String receiverId,
+            String storyId,
+            NotificationType type,
+            LocalDateTime bucket
+    ) {}
 }
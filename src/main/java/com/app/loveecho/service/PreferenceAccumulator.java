@@ -0,0 +1,313 @@
+package com.app.loveecho.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.mongo.document.UserPreference;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// ✍️ Write-behind buffer for preference learning.
+// Interactions are merged per user in memory (ConcurrentHashMap.compute locks
+// only the user's bin) and flushed in bulk, so concurrent interactions add up
+// instead of overwriting each other.
+// Flushes on a fixed delay, when the buffer reaches max-users, and on shutdown.
+@Component
+@Slf4j
+public class PreferenceAccumulator {
+
+    private static final int FLUSH_CHUNK = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final PreferencePolicy policy;
+    private final int maxUsers;
+
+    private final Map<String, Delta> pending = new ConcurrentHashMap<>();
+
+    public PreferenceAccumulator(
+            MongoTemplate mongoTemplate,
+            PreferencePolicy policy,
+            @Value("${preferences.max-buffered-users:10000}") int maxUsers
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.policy = policy;
+        this.maxUsers = maxUsers;
+    }
+
+    /* =========================
+       RECORD
+    ========================== */
+    public void add(String userId, String category, List<String> hashtags, String author) {
+
+        pending.compute(userId, (k, existing) -> {
+            Delta delta = existing != null ? existing : new Delta();
+
+            delta.categories.merge(category, 2, Integer::sum);
+
+            if (hashtags != null) {
+                hashtags.forEach(tag -> delta.hashtags.merge(tag, 1, Integer::sum));
+            }
+
+            delta.authors.merge(author, 1, Integer::sum);
+            return delta;
+        });
+
+        if (pending.size() >= maxUsers) {
+            flush();
+        }
+    }
+
+    // Pending (not yet flushed) increments for one user, or null
+    public Delta pending(String userId) {
+        Delta[] copy = new Delta[1];
+        pending.computeIfPresent(userId, (k, delta) -> {
+            copy[0] = delta.copy();
+            return delta;
+        });
+        return copy[0];
+    }
+
+    /* =========================
+       FLUSH
+    ========================== */
+    // Profiles are decayed and capped on every write, which $inc cannot do,
+    // so each chunk is one $in read plus one bulk of version-guarded rewrites
+    // (existing users) and inserts (new users, unique on userId).
+    // Deltas whose write lost a race or failed go back into the buffer.
+    @Scheduled(fixedDelayString = "${preferences.flush-interval:PT5S}")
+    public synchronized void flush() {
+
+        if (pending.isEmpty()) return;
+
+        List<String> users = new ArrayList<>(pending.keySet());
+        int flushed = 0;
+
+        for (int from = 0; from < users.size(); from += FLUSH_CHUNK) {
+            flushed += flushChunk(users.subList(from, Math.min(from + FLUSH_CHUNK, users.size())));
+        }
+
+        log.debug("Flushed preference deltas for {} users", flushed);
+    }
+
+    private int flushChunk(List<String> users) {
+
+        Map<String, Delta> deltas = new HashMap<>();
+        for (String userId : users) {
+            Delta delta = pending.remove(userId);
+            if (delta != null) deltas.put(userId, delta);
+        }
+
+        if (deltas.isEmpty()) return 0;
+
+        try {
+            return write(deltas);
+        } catch (RuntimeException e) {
+            // the read or the whole bulk failed: keep every delta for the
+            // next flush and carry on with the other chunks
+            deltas.forEach(this::requeue);
+            log.warn("Preference flush of {} users failed, retrying later", deltas.size(), e);
+            return 0;
+        }
+    }
+
+    private int write(Map<String, Delta> deltas) {
+
+        Map<String, UserPreference> stored = new HashMap<>();
+        for (UserPreference pref : mongoTemplate.find(
+                new Query(Criteria.where("userId").in(deltas.keySet())), UserPreference.class)) {
+            stored.put(pref.getUserId(), pref);
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, UserPreference.class);
+
+        List<String> order = new ArrayList<>(deltas.size()); // user of each bulk op
+        Map<String, Long> written = new HashMap<>(); // version-guarded rewrites only
+        LocalDateTime now = LocalDateTime.now();
+
+        deltas.forEach((userId, delta) -> {
+
+            UserPreference pref = stored.get(userId);
+            boolean exists = pref != null;
+
+            if (!exists) {
+                pref = UserPreference.builder().userId(userId).build();
+            } else {
+                unescapeKeys(pref);
+            }
+
+            policy.decay(pref, now);
+            delta.applyTo(pref);
+            policy.trim(pref);
+
+            order.add(userId);
+
+            if (!exists) {
+                // a concurrent first write makes this a duplicate key error
+                bulk.insert(UserPreference.builder()
+                        .userId(userId)
+                        .categoryScores(escapeKeys(pref.getCategoryScores()))
+                        .hashtagScores(escapeKeys(pref.getHashtagScores()))
+                        .authorScores(escapeKeys(pref.getAuthorScores()))
+                        .lastDecayedAt(now)
+                        .version(0L)
+                        .build());
+                return;
+            }
+
+            long version = pref.getVersion() != null ? pref.getVersion() + 1 : 0;
+            written.put(userId, version);
+
+            bulk.updateOne(
+                    new Query(Criteria.where("id").is(pref.getId())
+                            .and("version").is(pref.getVersion())),
+                    new Update()
+                            .set("categoryScores", escapeKeys(pref.getCategoryScores()))
+                            .set("hashtagScores", escapeKeys(pref.getHashtagScores()))
+                            .set("authorScores", escapeKeys(pref.getAuthorScores()))
+                            .set("lastDecayedAt", now)
+                            .set("version", version)
+            );
+        });
+
+        BulkWriteResult result;
+        Set<String> failed = new HashSet<>();
+
+        try {
+            result = bulk.execute();
+        } catch (BulkOperationException e) {
+            // the other ops of an unordered bulk were applied
+            result = e.getResult();
+            e.getErrors().forEach(error -> failed.add(order.get(error.getIndex())));
+            failed.forEach(userId -> requeue(userId, deltas.get(userId)));
+        }
+
+        written.keySet().removeAll(failed);
+        if (result.getMatchedCount() < written.size()) {
+            requeueLost(deltas, written);
+        }
+
+        return deltas.size() - failed.size();
+    }
+
+    // A concurrent writer bumped the version first: retry on the next flush.
+    // If the versions can't be read back, the few losers are dropped rather
+    // than requeueing (and so double counting) every rewrite that landed.
+    private void requeueLost(Map<String, Delta> deltas, Map<String, Long> written) {
+
+        Query query = new Query(Criteria.where("userId").in(written.keySet()));
+        query.fields().include("userId").include("version");
+
+        Map<String, Long> current = new HashMap<>();
+        try {
+            for (UserPreference pref : mongoTemplate.find(query, UserPreference.class)) {
+                current.put(pref.getUserId(), pref.getVersion());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not check {} preference rewrites for lost races", written.size(), e);
+            return;
+        }
+
+        written.forEach((userId, version) -> {
+            if (!Objects.equals(current.get(userId), version)) {
+                requeue(userId, deltas.get(userId));
+            }
+        });
+    }
+
+    private void requeue(String userId, Delta delta) {
+        pending.merge(userId, delta, Delta::merge);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /* =========================
+       KEY ESCAPING
+    ========================== */
+    static void unescapeKeys(UserPreference pref) {
+        pref.setCategoryScores(unescapeKeys(pref.getCategoryScores()));
+        pref.setHashtagScores(unescapeKeys(pref.getHashtagScores()));
+        pref.setAuthorScores(unescapeKeys(pref.getAuthorScores()));
+    }
+
+    private static Map<String, Double> unescapeKeys(Map<String, Double> scores) {
+        Map<String, Double> out = new HashMap<>();
+        if (scores != null) {
+            scores.forEach((k, v) -> out.merge(unescape(k), v, Double::sum));
+        }
+        return out;
+    }
+
+    private static Map<String, Double> escapeKeys(Map<String, Double> scores) {
+        Map<String, Double> out = new HashMap<>();
+        scores.forEach((k, v) -> out.merge(escape(k), v, Double::sum));
+        return out;
+    }
+
+    // '.' and a leading '$' are not allowed in Mongo field names / update paths
+    static String escape(String key) {
+        String escaped = key.replace('.', '．');
+        return escaped.startsWith("$") ? '＄' + escaped.substring(1) : escaped;
+    }
+
+    static String unescape(String key) {
+        String raw = key.replace('．', '.');
+        return raw.startsWith("＄") ? '$' + raw.substring(1) : raw;
+    }
+
+    /* =========================
+       DELTA
+    ========================== */
+    // Only mutated inside pending.compute(), i.e. under the user's bin lock
+    public static final class Delta {
+
+        final Map<String, Integer> categories = new HashMap<>();
+        final Map<String, Integer> hashtags = new HashMap<>();
+        final Map<String, Integer> authors = new HashMap<>();
+
+        Delta copy() {
+            Delta copy = new Delta();
+            copy.categories.putAll(categories);
+            copy.hashtags.putAll(hashtags);
+            copy.authors.putAll(authors);
+            return copy;
+        }
+
+        void applyTo(UserPreference pref) {
+            categories.forEach((k, n) -> pref.getCategoryScores().merge(k, (double) n, Double::sum));
+            hashtags.forEach((k, n) -> pref.getHashtagScores().merge(k, (double) n, Double::sum));
+            authors.forEach((k, n) -> pref.getAuthorScores().merge(k, (double) n, Double::sum));
+        }
+
+        // Only called from pending.merge(), i.e. under the user's bin lock
+        Delta merge(Delta other) {
+            other.categories.forEach((k, n) -> categories.merge(k, n, Integer::sum));
+            other.hashtags.forEach((k, n) -> hashtags.merge(k, n, Integer::sum));
+            other.authors.forEach((k, n) -> authors.merge(k, n, Integer::sum));
+            return this;
+        }
+    }
+}
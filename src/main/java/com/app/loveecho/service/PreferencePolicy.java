@@ -0,0 +1,76 @@
+package com.app.loveecho.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.loveecho.mongo.document.UserPreference;
+
+// ⏳ Exponential decay + top-N caps for preference profiles.
+// Stored scores are valid as of lastDecayedAt; decay is applied lazily
+// (on read and on flush) as score * 2^(-elapsed / halfLife), so old
+// interests fade without a background job rewriting every profile.
+@Component
+public class PreferencePolicy {
+
+    private static final double MIN_SCORE = 0.01;
+
+    private final Duration halfLife;
+    private final int maxCategories;
+    private final int maxHashtags;
+    private final int maxAuthors;
+
+    public PreferencePolicy(
+            @Value("${preferences.half-life:P14D}") Duration halfLife,
+            @Value("${preferences.max-categories:20}") int maxCategories,
+            @Value("${preferences.max-hashtags:50}") int maxHashtags,
+            @Value("${preferences.max-authors:50}") int maxAuthors
+    ) {
+        this.halfLife = halfLife;
+        this.maxCategories = maxCategories;
+        this.maxHashtags = maxHashtags;
+        this.maxAuthors = maxAuthors;
+    }
+
+    // Brings every score forward to `now` (in place)
+    public void decay(UserPreference pref, LocalDateTime now) {
+
+        LocalDateTime from = pref.getLastDecayedAt();
+        pref.setLastDecayedAt(now);
+
+        if (from == null || !now.isAfter(from)) return;
+
+        double elapsed = Duration.between(from, now).toMillis();
+        double factor = Math.pow(0.5, elapsed / halfLife.toMillis());
+
+        scale(pref.getCategoryScores(), factor);
+        scale(pref.getHashtagScores(), factor);
+        scale(pref.getAuthorScores(), factor);
+    }
+
+    // Keeps the strongest N entries of each map
+    public void trim(UserPreference pref) {
+        pref.setCategoryScores(top(pref.getCategoryScores(), maxCategories));
+        pref.setHashtagScores(top(pref.getHashtagScores(), maxHashtags));
+        pref.setAuthorScores(top(pref.getAuthorScores(), maxAuthors));
+    }
+
+    private static void scale(Map<String, Double> scores, double factor) {
+        scores.replaceAll((k, v) -> v * factor);
+        scores.values().removeIf(v -> v < MIN_SCORE);
+    }
+
+    private static Map<String, Double> top(Map<String, Double> scores, int n) {
+        if (scores.size() <= n) return scores;
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(n)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,231 @@
+package com.app.loveecho.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.dto.RelatedTagDTO;
+import com.app.loveecho.exception.BadRequestException;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.StoryRepository;
+import com.app.loveecho.search.CooccurrenceGraph;
+import com.app.loveecho.search.HashtagTokenizer;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 🕸️ Related hashtags from co-occurrence on public stories.
+// Every pair of tags on a story adds an edge weight that decays with the
+// story's age (half-life). Decay is applied lazily: new weight is scaled by
+// e^((t - base) / tau) instead of shrinking every old edge, and the whole
+// graph is renormalised once that factor gets large.
+// related(tag) walks one node's edges: weight / sqrt(strength(a) * strength(b)),
+// so generic tags that co-occur with everything don't dominate.
+@Service
+@Slf4j
+public class RelatedHashtagService {
+
+    public static final int MAX_RELATED = 50;
+
+    private static final double RENORMALISE_AT = 1e6;
+
+    private final StoryRepository storyRepository;
+    private final double tauMillis;
+    private final Duration horizon;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Graph graph;
+    private List<Consumer<Graph>> pending; // writes seen while a rebuild streams
+
+    public RelatedHashtagService(
+            StoryRepository storyRepository,
+            @Value("${related-tags.half-life:P30D}") Duration halfLife,
+            @Value("${related-tags.horizon:P180D}") Duration horizon
+    ) {
+        this.storyRepository = storyRepository;
+        this.tauMillis = halfLife.toMillis() / Math.log(2);
+        this.horizon = horizon;
+        this.graph = new Graph(System.currentTimeMillis());
+    }
+
+    /* =========================
+       INCREMENTAL UPDATES
+    ========================== */
+    // Moves a story's pairs from its old public tag set to the new one.
+    // Weighted by the story's creation time, so a removal cancels exactly
+    // what the add (or the last rebuild) contributed.
+    public void recordChange(LocalDateTime createdAt, Collection<String> before, Collection<String> after) {
+
+        if (before.size() < 2 && after.size() < 2) return;
+        if (new LinkedHashSet<>(before).equals(new LinkedHashSet<>(after))) return;
+
+        long at = createdAt == null
+                ? System.currentTimeMillis()
+                : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        List<String> removed = List.copyOf(before);
+        List<String> added = List.copyOf(after);
+
+        write(g -> {
+            g.addPairs(removed, at, -1);
+            g.addPairs(added, at, 1);
+        });
+    }
+
+    private void write(Consumer<Graph> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(graph);
+            if (pending != null) pending.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* =========================
+       READS
+    ========================== */
+    public List<RelatedTagDTO> related(String rawTag, int limit) {
+
+        String tag = HashtagTokenizer.normalize(rawTag);
+        if (tag == null) {
+            throw new BadRequestException("Invalid hashtag");
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_RELATED));
+
+        lock.readLock().lock();
+        try {
+            CooccurrenceGraph g = graph.tags;
+            int id = g.idOf(tag);
+            if (id < 0 || g.strength(id) <= 0) return List.of();
+
+            float own = g.strength(id);
+            Comparator<RelatedTagDTO> weakestFirst = Comparator
+                    .comparingDouble(RelatedTagDTO::getScore)
+                    .thenComparing(RelatedTagDTO::getTag, Comparator.reverseOrder());
+            PriorityQueue<RelatedTagDTO> heap = new PriorityQueue<>(weakestFirst);
+
+            g.edgesOf(id).forEach((neighbour, weight) -> {
+                double score = weight / Math.sqrt((double) own * g.strength(neighbour));
+                heap.offer(new RelatedTagDTO(g.tagOf(neighbour), score));
+                if (heap.size() > size) heap.poll();
+            });
+
+            List<RelatedTagDTO> best = new ArrayList<>(heap);
+            best.sort(weakestFirst.reversed());
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* =========================
+       REBUILD
+    ========================== */
+    // Streams the public multi-tag stories inside the horizon through a
+    // cursor (one story in memory at a time) into a fresh graph, replays
+    // writes made meanwhile, then swaps.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            initialDelayString = "${related-tags.rebuild-interval:PT24H}",
+            fixedDelayString = "${related-tags.rebuild-interval:PT24H}"
+    )
+    public synchronized void rebuild() {
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Graph fresh = new Graph(System.currentTimeMillis());
+        long stories = 0;
+
+        try (Stream<Story> rows = storyRepository.streamPublicHashtags(
+                LocalDateTime.now().minus(horizon))) {
+            for (Story story : (Iterable<Story>) rows::iterator) {
+                fresh.addPairs(
+                        story.getHashtags(),
+                        story.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                        1
+                );
+                stories++;
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null; // keep serving the old graph
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            graph = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Related hashtags rebuilt from {} stories: {} tags", stories, fresh.tags.size());
+    }
+
+    /* =========================
+       DECAYED GRAPH
+    ========================== */
+    private final class Graph {
+
+        final CooccurrenceGraph tags = new CooccurrenceGraph();
+        long base; // time at which a fresh pair weighs 1
+
+        Graph(long base) {
+            this.base = base;
+        }
+
+        void addPairs(List<String> storyTags, long at, int sign) {
+
+            if (storyTags == null || storyTags.size() < 2) return;
+
+            double factor = Math.exp((at - base) / tauMillis);
+            if (factor > RENORMALISE_AT) {
+                tags.scale((float) (1 / factor));
+                base = at;
+                factor = 1;
+            }
+            float weight = (float) (sign * factor);
+
+            Map<String, Integer> ids = new HashMap<>();
+            for (String tag : storyTags) ids.putIfAbsent(tag, tags.intern(tag));
+
+            List<Integer> distinct = List.copyOf(ids.values());
+            for (int i = 0; i < distinct.size(); i++) {
+                for (int j = i + 1; j < distinct.size(); j++) {
+                    tags.link(distinct.get(i), distinct.get(j), weight);
+                }
+            }
+        }
+    }
+}
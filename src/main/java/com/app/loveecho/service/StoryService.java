@@ -1,24 +1,37 @@
 package com.app.loveecho.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.app.loveecho.dto.CommentResponseDTO;
+import com.app.loveecho.dto.CursorPage;
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.dto.SearchPage;
 import com.app.loveecho.dto.StoryResponseDTO;
+import com.app.loveecho.dto.StorySummaryDTO;
+import com.app.loveecho.dto.TimeWindow;
 import com.app.loveecho.dto.UserMiniDTO;
+import com.app.loveecho.exception.BadRequestException;
 import com.app.loveecho.exception.ResourceNotFoundException;
-import com.app.loveecho.jpa.entity.NotificationType;
+import com.app.loveecho.event.DomainEventBus;
+import com.app.loveecho.event.StoryEvent;
+import com.app.loveecho.jpa.entity.ReactionType;
 import com.app.loveecho.jpa.entity.StoryCategory;
 import com.app.loveecho.jpa.entity.User;
 import com.app.loveecho.jpa.entity.Visibility;
@@ -26,8 +39,12 @@ import com.app.loveecho.jpa.repository.UserRepository;
 import com.app.loveecho.mongo.document.Comment;
 import com.app.loveecho.mongo.document.Reaction;
 import com.app.loveecho.mongo.document.Story;
-import com.app.loveecho.mongo.document.UserPreference;
+import com.app.loveecho.mongo.document.StorySummary;
+import com.app.loveecho.mongo.repository.CommentRepository;
+import com.app.loveecho.mongo.repository.ReactionRepository;
 import com.app.loveecho.mongo.repository.StoryRepository;
+import com.app.loveecho.search.HashtagTokenizer;
+import com.app.loveecho.search.StorySearchIndex;
 import com.app.loveecho.service.CloudinaryService;
 import com.app.loveecho.service.UserPreferenceService;
 
@@ -40,11 +57,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StoryService {
 
+    // most-liked windows up to this long sort their createdAt range
+    private static final Duration SORTED_RANGE_WINDOW = Duration.ofDays(1);
+
     private final StoryRepository storyRepository;
+    private final CommentRepository commentRepository;
+    private final ReactionRepository reactionRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
     private final CloudinaryService cloudinaryService;
     private final UserPreferenceService preferenceService;
+    private final TrendingService trendingService;
+    private final FeedService feedService;
+    private final DomainEventBus eventBus;
+    private final StorySearchIndex searchIndex;
+    private final HashtagService hashtagService;
+    private final TrendingHashtagService trendingHashtags;
+    private final RelatedHashtagService relatedHashtags;
 
 
    
@@ -57,8 +85,15 @@ public class StoryService {
         String username,
         List<MultipartFile> images
 ) {
+    story.setId(null); // never overwrite an existing story
     story.setUserId(username);
 
+    // 🔢 Counters are server-maintained: whatever the client posted starts at 0
+    story.setReactionsCount(0);
+    story.setReactionCounts(new EnumMap<>(ReactionType.class));
+    story.setCommentsCount(0);
+    story.setBookmarksCount(0);
+
     if (story.getAnonymous() == null) {
         story.setAnonymous(false);
     }
@@ -71,7 +106,7 @@ public class StoryService {
         story.setVisibility(Visibility.PUBLIC);
     }
 
-    story.setHashtags(extractHashtags(story.getContent()));
+    story.setHashtags(HashtagTokenizer.extract(story.getContent()));
 
     // ✅ NEW: Upload images only if provided
     if (images != null && !images.isEmpty()) {
@@ -87,6 +122,15 @@ public class StoryService {
     story.setUpdatedAt(LocalDateTime.now());
 
     Story saved = storyRepository.save(story);
+
+    if (saved.getVisibility() == Visibility.PUBLIC) {
+        trendingService.recordNewStory(saved.getId(), saved.getCreatedAt(), 0);
+    }
+    searchIndex.index(saved);
+    hashtagService.recordChange(List.of(), HashtagService.publicTags(saved));
+    relatedHashtags.recordChange(saved.getCreatedAt(), List.of(), HashtagService.publicTags(saved));
+    trendingHashtags.record(HashtagService.publicTags(saved), TrendingHashtagService.NEW_STORY_WEIGHT);
+
     return mapStoryToDTO(saved);
 }
 
@@ -96,28 +140,38 @@ public class StoryService {
     /* =========================
        GET STORIES
     ========================== */
-    public List<StoryResponseDTO> getAllPublicStories() {
-        return storyRepository
-                .findByVisibilityOrderByCreatedAtDesc(Visibility.PUBLIC)
-                .stream()
-                .map(this::mapStoryToDTO)
-                .toList();
+    public CursorPage<StorySummaryDTO> getAllPublicStories(String cursor, int size) {
+        return pageSummaries(publicStories(), cursor, size);
+    }
+
+    public CursorPage<StorySummaryDTO> getStoriesByUser(
+            String username,
+            String cursor,
+            int size
+    ) {
+        return pageSummaries(
+                publicStories().and("userId").is(username),
+                cursor,
+                size
+        );
     }
 
-    public List<StoryResponseDTO> getStoriesByUser(String username) {
-        return storyRepository
-                .findByUserIdAndVisibilityOrderByCreatedAtDesc(username, Visibility.PUBLIC)
-                .stream()
-                .map(this::mapStoryToDTO)
-                .toList();
-    }
+    public CursorPage<StorySummaryDTO> getStoriesByHashtag(
+            String tag,
+            String cursor,
+            int size
+    ) {
+        String normalized = HashtagTokenizer.normalize(tag);
+        if (normalized == null) {
+            return new CursorPage<>(List.of(), null, true);
+        }
 
-    public List<StoryResponseDTO> getStoriesByHashtag(String tag) {
-        return storyRepository
-                .findByHashtagsAndVisibility(tag.toLowerCase(), Visibility.PUBLIC)
-                .stream()
-                .map(this::mapStoryToDTO)
-                .toList();
+        // 📇 hashtags_visibility_createdAt (multikey)
+        return pageSummaries(
+                publicStories().and("hashtags").is(normalized),
+                cursor,
+                size
+        );
     }
 
     /* =========================
@@ -125,36 +179,46 @@ public class StoryService {
     ========================== */
     public StoryResponseDTO addComment(String storyId, String text, String username) {
 
-    Story story = storyRepository.findById(storyId)
-            .orElseThrow(() -> new ResourceNotFoundException("Story not found"));
-
-    if (story.getVisibility() == Visibility.PRIVATE) {
-        throw new RuntimeException("Cannot comment on private story");
-    }
-
     Comment comment = Comment.builder()
             .id(UUID.randomUUID().toString())
+            .storyId(storyId)
             .text(text)
             .userId(username)
             .createdAt(LocalDateTime.now())
             .build();
 
-    story.getComments().add(comment);
+    // ⚛️ counter bump guarded by visibility, then a single-document insert
+    Story story = storyRepository.incrementComments(storyId);
 
-    Story saved = storyRepository.save(story);
+    if (story == null) {
+        if (!storyRepository.existsById(storyId)) {
+            throw new ResourceNotFoundException("Story not found");
+        }
+        throw new RuntimeException("Cannot comment on private story");
+    }
 
-    // 🔔 notification
-    notificationService.notifyUser(
+    try {
+        commentRepository.insert(comment);
+    } catch (RuntimeException e) {
+        storyRepository.decrementComments(storyId);
+        throw e;
+    }
+
+    trendingService.recordEngagement(story.getId(), TrendingService.COMMENT_POINTS);
+
+    // 🔔 notification + 🧠 strong learning signal, off the request path
+    eventBus.publish(new StoryEvent.StoryCommented(
+            story.getId(),
             story.getUserId(),
             username,
-            story.getId(),
-            NotificationType.COMMENT
-    );
-
-    // 🧠 NEW: strong learning signal
-    preferenceService.recordInteraction(username, story);
+            story.getCategory(),
+            story.getHashtags(),
+            story.getVisibility(),
+            comment.getId(),
+            comment.getCreatedAt()
+    ));
 
-    return mapStoryToDTO(saved);
+    return mapStoryToDTO(story);
 }
 
     /* =========================
@@ -162,36 +226,61 @@ public class StoryService {
     ========================== */
     public StoryResponseDTO reactToStory(String storyId, String type, String username) {
 
-    Story story = storyRepository.findById(storyId)
-            .orElseThrow(() -> new ResourceNotFoundException("Story not found"));
+    ReactionType reactionType = ReactionType.parse(type);
 
-    // remove previous reaction by same user
-    story.getReactions().removeIf(
-            r -> r.getUserId().equals(username)
-    );
+    // ⚛️ unique (storyId, userId) upsert; the previous type drives the counters
+    Reaction previous = reactionRepository.upsert(storyId, username, reactionType);
+    ReactionType before = previous == null ? null : previous.getType();
 
-    story.getReactions().add(
-            Reaction.builder()
-                    .userId(username)
-                    .type(type)
-                    .createdAt(LocalDateTime.now())
-                    .build()
-    );
+    Story story = before == reactionType
+            ? storyRepository.findDetail(storyId).orElse(null)
+            : storyRepository.applyReaction(storyId, reactionType, before);
 
-    Story saved = storyRepository.save(story);
+    if (story == null) {
+        reactionRepository.remove(storyId, username);
+        throw new ResourceNotFoundException("Story not found");
+    }
+
+    if (before == reactionType) {
+        return mapStoryToDTO(story);
+    }
+
+    if (before == null) {
+        trendingService.recordEngagement(story.getId(), TrendingService.REACTION_POINTS);
+    }
 
-    // 🔔 notification
-    notificationService.notifyUser(
+    // 🔔 notification + 🧠 teach recommendation engine, off the request path
+    eventBus.publish(new StoryEvent.StoryReacted(
+            story.getId(),
             story.getUserId(),
             username,
-            story.getId(),
-            NotificationType.LIKE
-    );
+            story.getCategory(),
+            story.getHashtags(),
+            story.getVisibility(),
+            reactionType,
+            LocalDateTime.now()
+    ));
 
-    // 🧠 NEW: teach recommendation engine
-    preferenceService.recordInteraction(username, story);
+    return mapStoryToDTO(story);
+}
 
-    return mapStoryToDTO(saved);
+    public StoryResponseDTO removeReaction(String storyId, String username) {
+
+    Reaction removed = reactionRepository.remove(storyId, username);
+
+    Story story = removed == null
+            ? storyRepository.findDetail(storyId).orElse(null)
+            : storyRepository.applyReaction(storyId, null, removed.getType());
+
+    if (story == null) {
+        throw new ResourceNotFoundException("Story not found");
+    }
+
+    if (removed != null) {
+        trendingService.recordEngagement(story.getId(), -TrendingService.REACTION_POINTS);
+    }
+
+    return mapStoryToDTO(story);
 }
 
 
@@ -199,6 +288,79 @@ public class StoryService {
        DTO MAPPERS
     ========================== */
     public StoryResponseDTO mapStoryToDTO(Story story) {
+        return mapStoriesToDTOs(List.of(story)).get(0);
+    }
+
+    // 👥 Authors are resolved with one IN query
+    public List<StoryResponseDTO> mapStoriesToDTOs(List<Story> stories) {
+
+        Set<String> usernames = new HashSet<>();
+
+        for (Story story : stories) {
+            if (!Boolean.TRUE.equals(story.getAnonymous())) {
+                usernames.add(story.getUserId());
+            }
+        }
+
+        Map<String, User> users = loadUsers(usernames);
+
+        return stories.stream()
+                .map(story -> mapStoryToDTO(story, users))
+                .toList();
+    }
+
+    public List<StorySummaryDTO> mapSummariesToDTOs(List<StorySummary> stories) {
+
+        Set<String> usernames = new HashSet<>();
+
+        for (StorySummary story : stories) {
+            if (!Boolean.TRUE.equals(story.getAnonymous())) {
+                usernames.add(story.getUserId());
+            }
+        }
+
+        Map<String, User> users = loadUsers(usernames);
+
+        return stories.stream()
+                .map(story -> mapSummaryToDTO(story, users))
+                .toList();
+    }
+
+    // 📄 Keyset page on (createdAt, id): no skip, no count query
+    private CursorPage<StorySummaryDTO> pageSummaries(
+            Criteria criteria,
+            String cursor,
+            int size
+    ) {
+        int limit = CursorPage.clampSize(size);
+
+        List<StorySummary> rows = storyRepository.findSummaries(
+                criteria,
+                PageCursor.decode(cursor),
+                limit + 1
+        );
+
+        return CursorPage.of(
+                        rows,
+                        limit,
+                        story -> PageCursor.of(story.getCreatedAt(), story.getId())
+                )
+                .map(this::mapSummariesToDTOs);
+    }
+
+    private Map<String, User> loadUsers(Set<String> usernames) {
+
+        usernames.remove(null);
+        if (usernames.isEmpty()) return Map.of();
+
+        Map<String, User> users = new HashMap<>();
+        for (User user : userRepository.findByUsernameIn(usernames)) {
+            users.put(user.getUsername(), user);
+        }
+        return users;
+    }
+
+    private StoryResponseDTO mapStoryToDTO(Story story, Map<String, User> users) {
 
     StoryResponseDTO dto = new StoryResponseDTO();
 
@@ -214,34 +376,60 @@ public class StoryService {
     boolean isAnonymous = Boolean.TRUE.equals(story.getAnonymous());
     dto.setAnonymous(isAnonymous);
 
-    dto.setReactionsCount(
-        story.getReactions() == null ? 0 : story.getReactions().size()
-    );
+    dto.setReactionsCount(story.getReactionsCount());
+    dto.setReactionCounts(reactionCounts(story.getReactionCounts()));
+    dto.setCommentsCount(story.getCommentsCount());
+    dto.setBookmarksCount(story.getBookmarksCount());
 
     // ✅ Only attach user when NOT anonymous
     if (!isAnonymous) {
-        userRepository.findByUsername(story.getUserId())
-                .ifPresent(user -> dto.setUser(mapUserToMiniDTO(user)));
+        User user = users.get(story.getUserId());
+        if (user != null) {
+            dto.setUser(mapUserToMiniDTO(user));
+        }
     }
 
     dto.setImageUrls(
     story.getImageUrls() == null ? List.of() : story.getImageUrls()
 );
 
-
-    dto.setComments(
-        story.getComments() == null
-            ? List.of()
-            : story.getComments().stream()
-                .map(this::mapCommentToDTO)
-                .toList()
-    );
-
     return dto;
 }
 
 
-    private CommentResponseDTO mapCommentToDTO(Comment comment) {
+    private StorySummaryDTO mapSummaryToDTO(StorySummary story, Map<String, User> users) {
+
+        boolean isAnonymous = Boolean.TRUE.equals(story.getAnonymous());
+
+        StorySummaryDTO.StorySummaryDTOBuilder builder = StorySummaryDTO.builder()
+                .id(story.getId())
+                .title(story.getTitle())
+                .excerpt(story.getExcerpt())
+                .truncated(story.isTruncated())
+                .visibility(story.getVisibility().name())
+                .category(story.getCategory().name())
+                .userId(story.getUserId())
+                .createdAt(story.getCreatedAt())
+                .anonymous(isAnonymous)
+                .imageUrls(story.getImageUrls() == null ? List.of() : story.getImageUrls())
+                .hashtags(story.getHashtags() == null ? List.of() : story.getHashtags())
+                .reactionsCount(story.getReactionsCount())
+                .reactionCounts(reactionCounts(story.getReactionCounts()))
+                .commentsCount(story.getCommentsCount())
+                .bookmarksCount(story.getBookmarksCount());
+
+        // ✅ Only attach user when NOT anonymous
+        if (!isAnonymous) {
+            User user = users.get(story.getUserId());
+            if (user != null) {
+                builder.user(mapUserToMiniDTO(user));
+            }
+        }
+
+        return builder.build();
+    }
+
+    private CommentResponseDTO mapCommentToDTO(Comment comment, Map<String, User> users) {
 
         CommentResponseDTO.CommentResponseDTOBuilder builder =
                 CommentResponseDTO.builder()
@@ -250,14 +438,26 @@ public class StoryService {
                         .createdAt(comment.getCreatedAt())
                         .userId(comment.getUserId());
 
-        userRepository.findByUsername(comment.getUserId())
-                .ifPresent(user -> builder
-                        .username(user.getUsername())
-                        .profileImageUrl(user.getProfileImageUrl()));
+        User user = users.get(comment.getUserId());
+        if (user != null) {
+            builder.username(user.getUsername())
+                    .profileImageUrl(user.getProfileImageUrl());
+        }
 
         return builder.build();
     }
 
+    // Zeros left behind by removed reactions are not worth sending
+    private static Map<ReactionType, Integer> reactionCounts(Map<ReactionType, Integer> counts) {
+        Map<ReactionType, Integer> out = new EnumMap<>(ReactionType.class);
+        if (counts != null) {
+            counts.forEach((type, n) -> {
+                if (n != null && n > 0) out.put(type, n);
+            });
+        }
+        return out;
+    }
+
     private UserMiniDTO mapUserToMiniDTO(User user) {
         return UserMiniDTO.builder()
                 .id(user.getId())
@@ -269,79 +469,93 @@ public class StoryService {
     /* =========================
        UTIL
     ========================== */
-    private List<String> extractHashtags(String content) {
-
-        List<String> hashtags = new ArrayList<>();
-        if (content == null) return hashtags;
+    // Private stories leave the trending candidates, re-published ones rejoin
+    private void syncTrending(Story story) {
+        if (story.getVisibility() == Visibility.PUBLIC) {
+            trendingService.recordNewStory(
+                    story.getId(),
+                    story.getCreatedAt(),
+                    TrendingService.points(story.getReactionsCount(), story.getCommentsCount())
+            );
+        } else {
+            trendingService.remove(story.getId());
+        }
+    }
 
-        for (String word : content.split(" ")) {
-            if (word.startsWith("#") && word.length() > 1) {
-                hashtags.add(word.substring(1).toLowerCase());
-            }
+    // Explains why an owner-filtered update matched nothing
+    private RuntimeException missingOrDenied(String storyId) {
+        if (!storyRepository.existsById(storyId)) {
+            return new ResourceNotFoundException("Story not found");
         }
-        return hashtags;
-    }
-
-    public Page<StoryResponseDTO> getPagedPublicStories(Pageable pageable) {
-
-        return storyRepository
-                .findByVisibilityOrderByCreatedAtDesc(Visibility.PUBLIC, pageable)
-                .map(this::mapStoryToDTO);
-    }
-
-    public Page<CommentResponseDTO> getPagedComments(
-                String storyId,
-                Pageable pageable
-        ) {
-            Story story = storyRepository.findById(storyId)
-                    .orElseThrow(() ->
-                            new ResourceNotFoundException("Story not found"));
-
-            List<Comment> comments =
-                    story.getComments() == null
-                            ? List.of()
-                            : story.getComments();
-
-            // sort manually (Mongo embedded list)
-            List<Comment> sorted = comments.stream()
-                    .sorted((a, b) ->
-                            b.getCreatedAt().compareTo(a.getCreatedAt()))
-                    .toList();
-
-            int start = (int) pageable.getOffset();
-            int end = Math.min(start + pageable.getPageSize(), sorted.size());
-
-            List<CommentResponseDTO> pageContent =
-                    start > end
-                            ? List.of()
-                            : sorted.subList(start, end)
-                                    .stream()
-                                    .map(this::mapCommentToDTO)
-                                    .toList();
-
-            return new PageImpl<>(
-                    pageContent,
-                    pageable,
-                    sorted.size()
-            );
+        return new RuntimeException("Access denied");
     }
-    public List<StoryResponseDTO> getMyPrivateStories(String username) {
 
-        return storyRepository
-                .findByUserIdAndVisibilityOrderByCreatedAtDesc(
-                        username,
-                        Visibility.PRIVATE
+    private Criteria publicStories() {
+        return Criteria.where("visibility").is(Visibility.PUBLIC);
+    }
+
+
+    public CursorPage<StorySummaryDTO> getPagedPublicStories(String cursor, int size) {
+        return pageSummaries(publicStories(), cursor, size);
+    }
+
+    // 📄 Keyset page straight off the (storyId, createdAt, _id) index
+    public CursorPage<CommentResponseDTO> getPagedComments(
+            String storyId,
+            String cursor,
+            int size
+    ) {
+        if (!storyRepository.existsById(storyId)) {
+            throw new ResourceNotFoundException("Story not found");
+        }
+
+        int limit = CursorPage.clampSize(size);
+
+        List<Comment> rows = commentRepository.findPage(
+                storyId,
+                PageCursor.decode(cursor),
+                limit + 1
+        );
+
+        return CursorPage.of(
+                        rows,
+                        limit,
+                        comment -> PageCursor.of(comment.getCreatedAt(), comment.getId())
                 )
-                .stream()
-                .map(this::mapStoryToDTO)
+                .map(this::mapCommentsToDTOs);
+    }
+
+    private List<CommentResponseDTO> mapCommentsToDTOs(List<Comment> comments) {
+
+        Map<String, User> users = loadUsers(
+                comments.stream()
+                        .map(Comment::getUserId)
+                        .collect(Collectors.toSet())
+        );
+
+        return comments.stream()
+                .map(comment -> mapCommentToDTO(comment, users))
                 .toList();
     }
 
+    public CursorPage<StorySummaryDTO> getMyPrivateStories(
+            String username,
+            String cursor,
+            int size
+    ) {
+        return pageSummaries(
+                Criteria.where("userId").is(username)
+                        .and("visibility").is(Visibility.PRIVATE),
+                cursor,
+                size
+        );
+    }
+
     public StoryResponseDTO getStoryById(
         String storyId,
         Authentication authentication
 ) {
-    Story story = storyRepository.findById(storyId)
+    Story story = storyRepository.findDetail(storyId)
             .orElseThrow(() ->
                     new ResourceNotFoundException("Story not found"));
 
@@ -369,34 +583,43 @@ public StoryResponseDTO editStory(
         Map<String, String> body,
         String username
 ) {
-    Story story = storyRepository.findById(storyId)
-            .orElseThrow(() ->
-                    new ResourceNotFoundException("Story not found"));
-
-    // 🔐 Ownership check
-    if (!story.getUserId().equals(username)) {
-        throw new RuntimeException("Access denied");
-    }
-
     // ✏️ Update allowed fields
+    Update update = new Update().set("updatedAt", LocalDateTime.now());
+
     if (body.containsKey("title")) {
-        story.setTitle(body.get("title"));
+        update.set("title", body.get("title"));
     }
 
     if (body.containsKey("content")) {
-        story.setContent(body.get("content"));
-        story.setHashtags(extractHashtags(body.get("content")));
+        update.set("content", body.get("content"));
+        update.set("hashtags", HashtagTokenizer.extract(body.get("content")));
     }
 
     if (body.containsKey("visibility")) {
-        story.setVisibility(
-                Visibility.valueOf(body.get("visibility"))
-        );
+        update.set("visibility", Visibility.valueOf(body.get("visibility")));
     }
 
-    story.setUpdatedAt(LocalDateTime.now());
+    // previous tags / visibility, for the per-tag counters
+    Story before = body.containsKey("content") || body.containsKey("visibility")
+            ? storyRepository.findDetail(storyId).orElse(null)
+            : null;
+
+    // 🔐 Ownership check is part of the update filter
+    Story story = storyRepository.updateOwned(storyId, username, update);
+
+    if (story == null) {
+        throw missingOrDenied(storyId);
+    }
 
-    return mapStoryToDTO(storyRepository.save(story));
+    syncTrending(story);
+    searchIndex.index(story);
+    if (before != null) {
+        hashtagService.recordChange(HashtagService.publicTags(before), HashtagService.publicTags(story));
+        relatedHashtags.recordChange(
+                before.getCreatedAt(), HashtagService.publicTags(before), HashtagService.publicTags(story));
+    }
+
+    return mapStoryToDTO(story);
 }
 
 public void deleteStory(String storyId, String username) {
@@ -411,40 +634,47 @@ public void deleteStory(String storyId, String username) {
     }
 
     storyRepository.delete(story);
+    commentRepository.deleteByStoryId(storyId);
+    reactionRepository.deleteByStoryId(storyId);
+    trendingService.remove(storyId);
+    searchIndex.remove(storyId);
+    hashtagService.recordChange(HashtagService.publicTags(story), List.of());
+    relatedHashtags.recordChange(story.getCreatedAt(), HashtagService.publicTags(story), List.of());
 }
 
 public StoryResponseDTO toggleVisibility(String storyId, String username) {
 
-    Story story = storyRepository.findById(storyId)
-            .orElseThrow(() ->
-                    new ResourceNotFoundException("Story not found"));
+    // 🔄 Toggle server-side; 🔐 ownership checked in the filter
+    Story story = storyRepository.toggleVisibility(storyId, username);
 
-    // 🔐 Ownership check
-    if (!story.getUserId().equals(username)) {
-        throw new RuntimeException("Access denied");
+    if (story == null) {
+        throw missingOrDenied(storyId);
     }
 
-    // 🔄 Toggle
+    syncTrending(story);
+    searchIndex.index(story);
+
+    // tags leave / join the public counts with the story
+    List<String> tags = story.getHashtags() == null ? List.of() : story.getHashtags();
     if (story.getVisibility() == Visibility.PUBLIC) {
-        story.setVisibility(Visibility.PRIVATE);
+        hashtagService.recordChange(List.of(), tags);
+        relatedHashtags.recordChange(story.getCreatedAt(), List.of(), tags);
     } else {
-        story.setVisibility(Visibility.PUBLIC);
+        hashtagService.recordChange(tags, List.of());
+        relatedHashtags.recordChange(story.getCreatedAt(), tags, List.of());
     }
 
-    story.setUpdatedAt(LocalDateTime.now());
-
-    return mapStoryToDTO(storyRepository.save(story));
+    return mapStoryToDTO(story);
 }
 
-public List<StoryResponseDTO> getStoriesByCategory(String category) {
-
+public CursorPage<StorySummaryDTO> getStoriesByCategory(
+        String category,
+        String cursor,
+        int size
+) {
     // 🟢 Handle ALL / empty category
     if (category == null || category.equalsIgnoreCase("ALL")) {
-        return storyRepository
-                .findByVisibilityOrderByCreatedAtDesc(Visibility.PUBLIC)
-                .stream()
-                .map(this::mapStoryToDTO)
-                .toList();
+        return getAllPublicStories(cursor, size);
     }
 
     StoryCategory storyCategory;
@@ -456,155 +686,203 @@ public List<StoryResponseDTO> getStoriesByCategory(String category) {
         );
     }
 
-    return storyRepository
-            .findByCategoryAndVisibilityOrderByCreatedAtDesc(
-                    storyCategory,
-                    Visibility.PUBLIC
-            )
-            .stream()
-            .map(this::mapStoryToDTO)
-            .toList();
+    return pageSummaries(
+            publicStories().and("category").is(storyCategory),
+            cursor,
+            size
+    );
 }
 
-public Page<StoryResponseDTO> searchStories(
+// 🔎 BM25 over the in-memory index (public stories only), then one $in fetch
+public SearchPage<StorySummaryDTO> searchStories(
         String query,
-        Pageable pageable
+        String category,
+        String cursor,
+        int size
 ) {
-    if (query == null || query.trim().isEmpty()) {
-        return Page.empty(pageable);
+    StoryCategory filter = null;
+    if (category != null && !category.isBlank() && !category.equalsIgnoreCase("ALL")) {
+        try {
+            filter = StoryCategory.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid category: " + category);
+        }
     }
 
-    return storyRepository
-            .findByVisibilityAndContentContainingIgnoreCaseOrTitleContainingIgnoreCase(
-                    Visibility.PUBLIC,
-                    query,
-                    query,
-                    pageable
-            )
-            .map(this::mapStoryToDTO);
-}
+    int limit = CursorPage.clampSize(size);
 
-public StoryResponseDTO deleteComment(String storyId, String commentId, String username) {
+    int offset = PageCursor.offsetOf(PageCursor.decode(cursor));
 
-    Story story = storyRepository.findById(storyId)
-            .orElseThrow(() -> new ResourceNotFoundException("Story not found"));
+    StorySearchIndex.Hits hits = searchIndex.search(query, filter, offset, limit);
+    List<String> ids = hits.ids();
 
-    if (story.getComments() == null || story.getComments().isEmpty()) {
-        throw new ResourceNotFoundException("No comments found");
+    Map<String, StorySummary> found = new HashMap<>();
+    for (StorySummary story : storyRepository.findSummariesByIds(ids)) {
+        if (story.getVisibility() == Visibility.PUBLIC) {
+            found.put(story.getId(), story);
+        }
     }
 
-    Comment comment = story.getComments().stream()
-            .filter(c -> c.getId().equals(commentId))
-            .findFirst()
-            .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+    List<StorySummary> ranked = ids.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+    int nextOffset = offset + ids.size();
+    boolean last = ids.isEmpty()
+            || nextOffset >= hits.total()
+            || nextOffset >= searchIndex.maxResults();
+
+    return new SearchPage<>(
+            new CursorPage<>(
+                    mapSummariesToDTOs(ranked),
+                    last ? null : new PageCursor(nextOffset, ids.get(ids.size() - 1)).encode(),
+                    last
+            ),
+            hits.total(),
+            hits.facets()
+    );
+}
+
+public StoryResponseDTO deleteComment(String storyId, String commentId, String username) {
 
     // 🔐 Allow delete only by comment owner OR story owner
-    if (!comment.getUserId().equals(username) && !story.getUserId().equals(username)) {
-        throw new RuntimeException("Access denied");
-    }
+    boolean deleted = commentRepository.deleteFromStory(storyId, commentId, username);
 
-    story.getComments().removeIf(c -> c.getId().equals(commentId));
+    if (!deleted) {
+        Story story = storyRepository.findDetail(storyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Story not found"));
 
-    Story saved = storyRepository.save(story);
-    return mapStoryToDTO(saved);
-}
+        if (!commentRepository.existsByIdAndStoryId(commentId, storyId)) {
+            throw new ResourceNotFoundException("Comment not found");
+        }
 
-// ❤️ Most Liked
-public List<StoryResponseDTO> getMostLikedStories() {
-    Pageable pageable = PageRequest.of(0, 50); // limit to 50
-
-    return storyRepository.findByVisibility(Visibility.PUBLIC, pageable)
-            .getContent()
-            .stream()
-            .sorted((a, b) -> {
-                int likesA = a.getReactions() == null ? 0 : a.getReactions().size();
-                int likesB = b.getReactions() == null ? 0 : b.getReactions().size();
-                return Integer.compare(likesB, likesA);
-            })
-            .map(this::mapStoryToDTO)
-            .toList();
-}
+        if (!story.getUserId().equals(username)
+                || !commentRepository.deleteFromStory(storyId, commentId, null)) {
+            throw new RuntimeException("Access denied");
+        }
+    }
 
+    storyRepository.decrementComments(storyId);
+    trendingService.recordEngagement(storyId, -TrendingService.COMMENT_POINTS);
 
-// 🔥 Trending = likes + comments + recency
-public List<StoryResponseDTO> getTrendingStories() {
-
-    Pageable pageable = PageRequest.of(0, 100);
-
-    return storyRepository.findByVisibility(Visibility.PUBLIC, pageable)
-            .getContent()
-            .stream()
-            .sorted((a, b) -> {
-                int scoreA = calculateScore(a);
-                int scoreB = calculateScore(b);
-                return Integer.compare(scoreB, scoreA);
-            })
-            .map(this::mapStoryToDTO)
-            .toList();
+    return mapStoryToDTO(
+            storyRepository.findDetail(storyId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Story not found"))
+    );
 }
 
+// ❤️ Most Liked
+// HOUR / DAY: the window's createdAt range, sorted (cost follows the window).
+// Wider windows: indexed sort on the maintained counter, window filtered in the index.
+public CursorPage<StorySummaryDTO> getMostLikedStories(
+        TimeWindow window,
+        String cursor,
+        int size
+) {
+    int limit = CursorPage.clampSize(size);
+    PageCursor after = PageCursor.decode(cursor);
 
-private int calculateScore(Story story) {
-    int likes = story.getReactions() == null ? 0 : story.getReactions().size();
-    int comments = story.getComments() == null ? 0 : story.getComments().size();
+    LocalDateTime since = window.since(LocalDateTime.now());
 
-    long hoursAgo = java.time.Duration.between(
-            story.getCreatedAt(),
-            LocalDateTime.now()
-    ).toHours();
+    List<StorySummary> rows;
+    if (since != null && window.length().compareTo(SORTED_RANGE_WINDOW) <= 0) {
+        rows = storyRepository.findMostReactedSince(since, after, limit + 1);
+    } else {
+        Criteria criteria = publicStories();
+        if (since != null) {
+            criteria = criteria.and("createdAt").gte(since);
+        }
+        rows = storyRepository.findMostReacted(criteria, after, limit + 1);
+    }
 
-    // formula:
-    // likes * 2 + comments * 3 - age penalty
-    return (likes * 2) + (comments * 3) - (int) hoursAgo;
+    return CursorPage.of(
+                    rows,
+                    limit,
+                    story -> new PageCursor(story.getReactionsCount(), story.getId())
+            )
+            .map(this::mapSummariesToDTOs);
 }
 
-public List<StoryResponseDTO> getPersonalizedFeed(String username) {
-
-    List<Story> all = storyRepository
-            .findByVisibilityOrderByCreatedAtDesc(Visibility.PUBLIC);
 
-    var pref = preferenceService.getPreferences(username);
+// 🔥 Trending = likes + comments + recency
+public CursorPage<StorySummaryDTO> getTrendingStories(String cursor, int size) {
 
-    return all.stream()
-        .sorted((a, b) -> score(b, pref) - score(a, pref))
-        .map(this::mapStoryToDTO)
-        .toList();
-}
-private int score(Story story, UserPreference pref) {
+    int limit = CursorPage.clampSize(size);
 
-    int score = 0;
+    PageCursor position = PageCursor.decode(cursor);
+    int offset = PageCursor.offsetOf(position);
 
-    // Base popularity
-    score += story.getReactions() != null ? story.getReactions().size() * 3 : 0;
-    score += story.getComments() != null ? story.getComments().size() * 2 : 0;
+    // 📊 O(K) slice of the ranking snapshot the first page came from
+    // (the cursor's id carries its version), so re-ranks don't shift pages
+    TrendingService.Ranking ranking = position == null
+            ? trendingService.current()
+            : trendingService.ranking(rankingVersion(position));
+    List<String> ids = ranking.page(offset, limit);
 
-    // Freshness boost
-    if (story.getCreatedAt() != null &&
-        story.getCreatedAt().isAfter(LocalDateTime.now().minusHours(24))) {
-        score += 5;
+    Map<String, StorySummary> found = new HashMap<>();
+    for (StorySummary story : storyRepository.findSummariesByIds(ids)) {
+        if (story.getVisibility() == Visibility.PUBLIC) {
+            found.put(story.getId(), story);
+        }
     }
 
-    if (pref == null) return score;
+    List<StorySummary> ranked = ids.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
 
-    // Category match
-    score += pref.getCategoryScores()
-        .getOrDefault(story.getCategory().name(), 0) * 4;
+    int nextOffset = offset + ids.size();
+    boolean last = ids.isEmpty() || nextOffset >= ranking.size();
 
-    // Author affinity
-    score += pref.getAuthorScores()
-        .getOrDefault(story.getUserId(), 0) * 5;
+    return new CursorPage<>(
+            mapSummariesToDTOs(ranked),
+            last ? null : new PageCursor(nextOffset, Long.toString(ranking.version())).encode(),
+            last
+    );
+}
 
-    // Hashtag affinity
-    if (story.getHashtags() != null) {
-        for (String tag : story.getHashtags()) {
-            score += pref.getHashtagScores().getOrDefault(tag, 0) * 2;
-        }
+// -1 (no such snapshot: continue on the current ranking) when not a version
+private static long rankingVersion(PageCursor cursor) {
+    try {
+        return Long.parseLong(cursor.id());
+    } catch (NumberFormatException e) {
+        return -1;
     }
-
-    return score;
 }
 
+public CursorPage<StorySummaryDTO> getPersonalizedFeed(
+        String username,
+        String cursor,
+        int size
+) {
+    int limit = CursorPage.clampSize(size);
+
+    PageCursor position = PageCursor.decode(cursor);
+    int offset = PageCursor.offsetOf(position);
 
+    if (offset >= feedService.maxResults()) {
+        return new CursorPage<>(List.of(), null, true);
+    }
 
+    // later pages slice the ranking cached for page 1 (the cursor's id
+    // carries its version); preferences are only read to rank afresh
+    FeedService.Page page = feedService.page(
+            username,
+            () -> preferenceService.getPreferences(username),
+            position == null ? -1 : rankingVersion(position),
+            offset,
+            limit
+    );
+
+    boolean last = page.last()
+            || offset + limit >= feedService.maxResults();
+
+    return new CursorPage<>(
+            mapSummariesToDTOs(page.stories()),
+            last ? null : new PageCursor(offset + limit, Long.toString(page.version())).encode(),
+            last
+    );
+}
 
 }
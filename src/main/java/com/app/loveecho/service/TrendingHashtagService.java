@@ -0,0 +1,307 @@
+package com.app.loveecho.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.dto.TimeWindow;
+import com.app.loveecho.dto.TrendingTagDTO;
+import com.app.loveecho.exception.BadRequestException;
+import com.app.loveecho.mongo.document.TrendingTagsSnapshot;
+import com.app.loveecho.sketch.CountMinSketch;
+import com.app.loveecho.sketch.SpaceSaving;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 📈 Trending hashtags over sliding windows with fixed memory.
+// Tag uses (story created, reacted, commented, bookmarked) land in the
+// current time bucket: 60 one-minute buckets for the last hour and 24
+// one-hour buckets for the last day. Each bucket holds a Count-Min Sketch
+// (how often) and a Space-Saving summary (which tags are candidates).
+// Running window sketches are kept by adding to the current bucket and
+// subtracting buckets as they expire. A scheduled re-rank estimates every
+// candidate against its window and publishes the top K, so reads are
+// list slices. A snapshot is saved periodically and on shutdown, and
+// loaded at startup.
+@Service
+@Slf4j
+public class TrendingHashtagService {
+
+    public static final int NEW_STORY_WEIGHT = 3;
+    public static final int ENGAGEMENT_WEIGHT = 1;
+
+    private static final int MINUTE_BUCKETS = 60;
+    private static final int HOUR_BUCKETS = 24;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final int depth;
+    private final int width;
+    private final int topK;
+
+    private final Bucket[] minutes = new Bucket[MINUTE_BUCKETS];
+    private final Bucket[] hours = new Bucket[HOUR_BUCKETS];
+    private final CountMinSketch lastHour;
+    private final CountMinSketch lastDay;
+
+    private long currentMinute = -1;
+    private long currentHour = -1;
+
+    private volatile List<TrendingTagDTO> hourTop = List.of();
+    private volatile List<TrendingTagDTO> dayTop = List.of();
+
+    public TrendingHashtagService(
+            MongoTemplate mongoTemplate,
+            @Value("${trending-tags.sketch-depth:4}") int depth,
+            @Value("${trending-tags.sketch-width:1024}") int width,
+            @Value("${trending-tags.candidates-per-bucket:100}") int candidates,
+            @Value("${trending-tags.top-k:50}") int topK
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.depth = depth;
+        this.width = width;
+        this.topK = topK;
+
+        for (int i = 0; i < MINUTE_BUCKETS; i++) minutes[i] = new Bucket(depth, width, candidates);
+        for (int i = 0; i < HOUR_BUCKETS; i++) hours[i] = new Bucket(depth, width, candidates);
+        this.lastHour = new CountMinSketch(depth, width);
+        this.lastDay = new CountMinSketch(depth, width);
+    }
+
+    /* =========================
+       WRITES
+    ========================== */
+    public synchronized void record(Collection<String> tags, int weight) {
+
+        if (tags == null || tags.isEmpty()) return;
+
+        advance(epochMinute());
+        Bucket minute = minutes[slot(currentMinute, MINUTE_BUCKETS)];
+        Bucket hour = hours[slot(currentHour, HOUR_BUCKETS)];
+
+        for (String tag : tags) {
+            minute.add(tag, weight);
+            hour.add(tag, weight);
+            lastHour.add(tag, weight);
+            lastDay.add(tag, weight);
+        }
+    }
+
+    // Expires every bucket the clock moved past since the last call
+    private void advance(long minute) {
+
+        if (currentMinute < 0) {
+            currentMinute = minute;
+            currentHour = minute / 60;
+            return;
+        }
+
+        currentMinute = expire(minutes, lastHour, currentMinute, minute);
+        currentHour = expire(hours, lastDay, currentHour, minute / 60);
+    }
+
+    private static long expire(Bucket[] ring, CountMinSketch window, long current, long now) {
+
+        if (now <= current) return current;
+
+        if (now - current >= ring.length) {
+            for (Bucket bucket : ring) bucket.clear();
+            window.clear();
+            return now;
+        }
+
+        for (long t = current + 1; t <= now; t++) {
+            Bucket reused = ring[slot(t, ring.length)];
+            window.merge(reused.sketch, -1);
+            reused.clear();
+        }
+        return now;
+    }
+
+    /* =========================
+       READS
+    ========================== */
+    public List<TrendingTagDTO> top(TimeWindow window, int limit) {
+
+        List<TrendingTagDTO> ranked = switch (window) {
+            case HOUR -> hourTop;
+            case DAY -> dayTop;
+            default -> throw new BadRequestException("Invalid window. Allowed: HOUR, DAY");
+        };
+
+        return ranked.subList(0, Math.max(0, Math.min(limit, ranked.size())));
+    }
+
+    /* =========================
+       RE-RANK
+    ========================== */
+    @Scheduled(fixedDelayString = "${trending-tags.rerank-interval:PT10S}")
+    public synchronized void rerank() {
+        advance(epochMinute());
+        hourTop = rank(minutes, lastHour);
+        dayTop = rank(hours, lastDay);
+    }
+
+    // Candidates from every live bucket's summary, scored on the window sketch
+    private List<TrendingTagDTO> rank(Bucket[] ring, CountMinSketch window) {
+
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : ring) {
+            bucket.top.counters().forEach(c -> candidates.add(c.key()));
+        }
+
+        Comparator<TrendingTagDTO> lowestFirst = Comparator
+                .comparingLong(TrendingTagDTO::getScore)
+                .thenComparing(TrendingTagDTO::getTag, Comparator.reverseOrder());
+        PriorityQueue<TrendingTagDTO> heap = new PriorityQueue<>(lowestFirst);
+
+        for (String tag : candidates) {
+            int score = window.estimate(tag);
+            if (score <= 0) continue;
+
+            heap.offer(new TrendingTagDTO(tag, score));
+            if (heap.size() > topK) heap.poll();
+        }
+
+        List<TrendingTagDTO> ranked = new ArrayList<>(heap);
+        ranked.sort(lowestFirst.reversed());
+        return List.copyOf(ranked);
+    }
+
+    /* =========================
+       SNAPSHOTS
+    ========================== */
+    @Scheduled(
+            initialDelayString = "${trending-tags.snapshot-interval:PT1M}",
+            fixedDelayString = "${trending-tags.snapshot-interval:PT1M}"
+    )
+    public void saveSnapshot() {
+
+        TrendingTagsSnapshot snapshot;
+        synchronized (this) {
+            if (currentMinute < 0) return; // nothing recorded yet
+            snapshot = new TrendingTagsSnapshot(
+                    TrendingTagsSnapshot.ID,
+                    LocalDateTime.now(),
+                    depth,
+                    width,
+                    currentMinute,
+                    currentHour,
+                    snapshotOf(minutes),
+                    snapshotOf(hours)
+            );
+        }
+        mongoTemplate.save(snapshot);
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        try {
+            saveSnapshot();
+        } catch (RuntimeException e) {
+            log.warn("Could not save trending hashtags snapshot", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+
+        TrendingTagsSnapshot snapshot =
+                mongoTemplate.findById(TrendingTagsSnapshot.ID, TrendingTagsSnapshot.class);
+
+        if (snapshot != null
+                && snapshot.getDepth() == depth
+                && snapshot.getWidth() == width
+                && restore(minutes, snapshot.getMinutes())
+                && restore(hours, snapshot.getHours())) {
+
+            lastHour.clear();
+            lastDay.clear();
+            for (Bucket bucket : minutes) lastHour.merge(bucket.sketch, 1);
+            for (Bucket bucket : hours) lastDay.merge(bucket.sketch, 1);
+
+            currentMinute = snapshot.getMinute();
+            currentHour = snapshot.getHour();
+            log.info("Trending hashtags restored from snapshot of {}", snapshot.getSavedAt());
+        } else {
+            // missing or taken with other sketch dimensions: start empty
+            for (Bucket bucket : minutes) bucket.clear();
+            for (Bucket bucket : hours) bucket.clear();
+        }
+
+        rerank(); // also expires what aged out while down
+    }
+
+    private static List<TrendingTagsSnapshot.Bucket> snapshotOf(Bucket[] ring) {
+        List<TrendingTagsSnapshot.Bucket> out = new ArrayList<>(ring.length);
+        for (Bucket bucket : ring) {
+            out.add(new TrendingTagsSnapshot.Bucket(
+                    bucket.sketch.toBytes(),
+                    bucket.top.counters().stream()
+                            .map(c -> new TrendingTagsSnapshot.TagCount(c.key(), c.count(), c.error()))
+                            .toList()
+            ));
+        }
+        return out;
+    }
+
+    private static boolean restore(Bucket[] ring, List<TrendingTagsSnapshot.Bucket> saved) {
+
+        if (saved == null || saved.size() != ring.length) return false;
+
+        for (int i = 0; i < ring.length; i++) {
+            TrendingTagsSnapshot.Bucket s = saved.get(i);
+            if (!ring[i].sketch.load(s.getSketch())) return false;
+            ring[i].top.load(s.getTop() == null ? List.of() : s.getTop().stream()
+                    .map(c -> new SpaceSaving.Counter(c.getTag(), c.getCount(), c.getError()))
+                    .toList());
+        }
+        return true;
+    }
+
+    /* =========================
+       UTIL
+    ========================== */
+    private static long epochMinute() {
+        return Instant.now().getEpochSecond() / 60;
+    }
+
+    private static int slot(long t, int size) {
+        return (int) Math.floorMod(t, (long) size);
+    }
+
+    private static final class Bucket {
+
+        final CountMinSketch sketch;
+        final SpaceSaving top;
+
+        Bucket(int depth, int width, int candidates) {
+            this.sketch = new CountMinSketch(depth, width);
+            this.top = new SpaceSaving(candidates);
+        }
+
+        void add(String tag, int weight) {
+            sketch.add(tag, weight);
+            top.add(tag, weight);
+        }
+
+        void clear() {
+            sketch.clear();
+            top.clear();
+        }
+    }
+}
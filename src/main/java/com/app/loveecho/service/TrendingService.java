@@ -0,0 +1,258 @@
+package com.app.loveecho.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.mongo.document.StorySummary;
+import com.app.loveecho.mongo.repository.StoryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 🔥 Gravity-decayed trending ranking kept in memory.
+// Candidates are the public stories created inside the horizon, reloaded from
+// Mongo periodically and bumped in place on reactions and comments. A scheduled
+// re-rank scores every candidate once and publishes the top K as a versioned
+// snapshot, so reads are array slices. The last few snapshots are retained
+// and paging stays on the one its first page came from.
+// score = (points + 1) / (ageHours + 2) ^ gravity, Hacker News style.
+@Service
+@Slf4j
+public class TrendingService {
+
+    public static final int REACTION_POINTS = 2;
+    public static final int COMMENT_POINTS = 3;
+
+    private final StoryRepository storyRepository;
+
+    private final Duration horizon;
+    private final int topK;
+    private final int maxCandidates;
+    private final double gravity;
+
+    private final Map<String, Candidate> candidates = new ConcurrentHashMap<>();
+    private final Map<Long, Ranking> retained; // by version, oldest first
+
+    private volatile Ranking ranking = new Ranking(0, new String[0]);
+    private volatile Set<String> removedDuringReload; // non-null while reload() streams
+
+    public TrendingService(
+            StoryRepository storyRepository,
+            @Value("${trending.horizon:P7D}") Duration horizon,
+            @Value("${trending.top-k:500}") int topK,
+            @Value("${trending.max-candidates:50000}") int maxCandidates,
+            @Value("${trending.gravity:1.8}") double gravity,
+            @Value("${trending.retained-rankings:30}") int retainedRankings
+    ) {
+        this.storyRepository = storyRepository;
+        this.horizon = horizon;
+        this.topK = topK;
+        this.maxCandidates = maxCandidates;
+        this.gravity = gravity;
+        this.retained = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Ranking> eldest) {
+                return size() > retainedRankings;
+            }
+        };
+    }
+
+    /* =========================
+       READS
+    ========================== */
+    public Ranking current() {
+        return ranking;
+    }
+
+    // The snapshot a cursor was issued from, or the current one once it
+    // has aged out
+    public Ranking ranking(long version) {
+        synchronized (retained) {
+            Ranking kept = retained.get(version);
+            return kept != null ? kept : ranking;
+        }
+    }
+
+    /* =========================
+       INCREMENTAL UPDATES
+    ========================== */
+    public void recordEngagement(String storyId, int points) {
+        Candidate candidate = candidates.get(storyId);
+        if (candidate != null) {
+            candidate.points.addAndGet(points);
+        }
+    }
+
+    public void recordNewStory(String storyId, LocalDateTime createdAt, int points) {
+        if (candidates.size() < maxCandidates) {
+            candidates.putIfAbsent(storyId, new Candidate(epochMillis(createdAt), points));
+        }
+    }
+
+    public void remove(String storyId) {
+        candidates.remove(storyId);
+
+        Set<String> removed = removedDuringReload;
+        if (removed != null) removed.add(storyId);
+    }
+
+    /* =========================
+       BACKGROUND JOBS
+    ========================== */
+
+    // 🔄 Resync candidate points with the counters stored in Mongo.
+    // Merged, not swapped: points gained while the stream ran are kept on
+    // top of the stored counters, stories added meanwhile stay, and stories
+    // removed meanwhile are not brought back.
+    @Scheduled(scheduler = SchedulingConfig.BULK_JOBS, fixedDelayString = "${trending.reload-interval:PT10M}")
+    public synchronized void reload() {
+
+        LocalDateTime since = LocalDateTime.now().minus(horizon);
+        Map<String, Candidate> fresh = new HashMap<>();
+
+        Set<String> removed = ConcurrentHashMap.newKeySet();
+        Map<String, Integer> before = new HashMap<>();
+        candidates.forEach((id, candidate) -> before.put(id, candidate.points.get()));
+        removedDuringReload = removed;
+
+        try {
+            try (Stream<StorySummary> stories =
+                         storyRepository.streamPublicEngagement(since, maxCandidates)) {
+                stories.forEach(story -> fresh.put(
+                        story.getId(),
+                        new Candidate(
+                                epochMillis(story.getCreatedAt()),
+                                points(story.getReactionsCount(), story.getCommentsCount())
+                        )
+                ));
+            }
+
+            // gone from Mongo (private, deleted, past the horizon)
+            before.keySet().forEach(id -> {
+                if (!fresh.containsKey(id)) candidates.remove(id);
+            });
+
+            fresh.forEach((id, stored) -> {
+                Candidate live = candidates.get(id);
+
+                if (live == null) {
+                    // absent and known before means removed meanwhile
+                    if (!before.containsKey(id) && !removed.contains(id)) {
+                        candidates.putIfAbsent(id, stored);
+                    }
+                } else if (before.containsKey(id)) {
+                    live.points.addAndGet(stored.points.get() - before.get(id));
+                } else {
+                    // added while streaming: the read may already include its bumps
+                    live.points.accumulateAndGet(stored.points.get(), Math::max);
+                }
+            });
+        } finally {
+            removedDuringReload = null;
+        }
+
+        log.debug("Trending candidates reloaded: {}", fresh.size());
+        rerank();
+    }
+
+    // 🔥 Score each candidate once, keep the best K in a bounded min-heap
+    @Scheduled(fixedDelayString = "${trending.rerank-interval:PT1M}")
+    public void rerank() {
+
+        long now = epochMillis(LocalDateTime.now());
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(topK + 1);
+
+        candidates.forEach((id, candidate) -> {
+            double ageHours = Math.max(0, now - candidate.createdAtMillis) / 3_600_000d;
+            double score = (candidate.points.get() + 1) / Math.pow(ageHours + 2, gravity);
+
+            if (heap.size() < topK) {
+                heap.add(new Scored(id, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Scored(id, score));
+            }
+        });
+
+        String[] ids = new String[heap.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = heap.poll().id();
+        }
+
+        synchronized (retained) {
+            if (Arrays.equals(ids, ranking.ids)) return;
+
+            ranking = new Ranking(ranking.version + 1, ids);
+            retained.put(ranking.version, ranking);
+        }
+    }
+
+    public static int points(int reactions, int comments) {
+        return reactions * REACTION_POINTS + comments * COMMENT_POINTS;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? 0 : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /* =========================
+       INTERNAL STATE
+    ========================== */
+    private static final class Candidate {
+        final long createdAtMillis;
+        final AtomicInteger points;
+
+        Candidate(long createdAtMillis, int points) {
+            this.createdAtMillis = createdAtMillis;
+            this.points = new AtomicInteger(points);
+        }
+    }
+
+    private record Scored(String id, double score) implements Comparable<Scored> {
+        @Override
+        public int compareTo(Scored other) {
+            return Double.compare(score, other.score);
+        }
+    }
+
+    // Immutable ranked ids, top first
+    public static final class Ranking {
+
+        private final long version;
+        private final String[] ids;
+
+        private Ranking(long version, String[] ids) {
+            this.version = version;
+            this.ids = ids;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return ids.length;
+        }
+
+        public List<String> page(int offset, int size) {
+            if (offset < 0 || offset >= ids.length) return List.of();
+            return List.copyOf(Arrays.asList(ids).subList(offset, offset + Math.min(size, ids.length - offset)));
+        }
+    }
+}
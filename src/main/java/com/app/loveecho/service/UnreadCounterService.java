@@ -0,0 +1,205 @@
+package com.app.loveecho.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.mongo.document.Notification;
+import com.app.loveecho.mongo.document.UnreadCounter;
+import com.app.loveecho.mongo.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 🔴 Unread count per user as a maintained counter document, fronted by a
+// small LRU cache with a TTL (so other instances' writes show up quickly).
+// Polls are a cache hit or a single _id read; the count scan only runs to
+// seed a missing counter and in the periodic reconciliation.
+@Service
+@Slf4j
+public class UnreadCounterService {
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationRepository notificationRepository;
+
+    private final Duration ttl;
+    private final Map<String, Cached> cache;
+
+    public UnreadCounterService(
+            MongoTemplate mongoTemplate,
+            NotificationRepository notificationRepository,
+            @Value("${unread.cache-size:10000}") int cacheSize,
+            @Value("${unread.cache-ttl:PT30S}") Duration ttl
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = ttl;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /* =========================
+       READ
+    ========================== */
+    public long get(String userId) {
+
+        long now = System.nanoTime();
+
+        synchronized (cache) {
+            Cached cached = cache.get(userId);
+            if (cached != null && now - cached.loadedAt() < ttl.toNanos()) {
+                return cached.count();
+            }
+        }
+
+        UnreadCounter counter = mongoTemplate.findById(userId, UnreadCounter.class);
+        long count = counter != null ? counter.getCount() : seed(userId);
+
+        synchronized (cache) {
+            cache.put(userId, new Cached(count, now));
+        }
+        return count;
+    }
+
+    // First read for a user: one count, then maintained from here on
+    private long seed(String userId) {
+
+        long count = notificationRepository.countByReceiverIdAndReadFalse(userId);
+
+        UnreadCounter counter = mongoTemplate.findAndModify(
+                new Query(Criteria.where("userId").is(userId)),
+                new Update()
+                        .setOnInsert("count", count)
+                        .setOnInsert("updatedAt", LocalDateTime.now()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                UnreadCounter.class
+        );
+        return counter != null ? counter.getCount() : count;
+    }
+
+    /* =========================
+       WRITE
+    ========================== */
+    // Only moves existing counters: a missing one is seeded from the real
+    // count on its first read, which already includes these notifications
+    public void increment(Map<String, Long> deltas) {
+
+        if (deltas.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, UnreadCounter.class);
+
+        deltas.forEach((userId, n) -> bulk.updateOne(
+                new Query(Criteria.where("userId").is(userId)),
+                new Update().inc("count", n).set("updatedAt", LocalDateTime.now())
+        ));
+        bulk.execute();
+
+        synchronized (cache) {
+            deltas.forEach((userId, n) -> cache.computeIfPresent(
+                    userId, (k, c) -> new Cached(c.count() + n, c.loadedAt())));
+        }
+    }
+
+    // Never goes below zero
+    public void decrement(String userId, long n) {
+
+        if (n <= 0) return;
+
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("count").toValue(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("count").greaterThanValue(n))
+                        .thenValueOf(ArithmeticOperators.Subtract.valueOf("count").subtract(n))
+                        .otherwise(0))
+                .set("updatedAt").toValue(LocalDateTime.now());
+
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("userId").is(userId)),
+                update,
+                UnreadCounter.class
+        );
+
+        synchronized (cache) {
+            cache.computeIfPresent(
+                    userId, (k, c) -> new Cached(Math.max(0, c.count() - n), c.loadedAt()));
+        }
+    }
+
+    /* =========================
+       RECONCILIATION
+    ========================== */
+    // Rebuilds counters from the notifications. Counters touched after the
+    // recount started are left alone: their own updates already moved them.
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            initialDelayString = "${unread.reconcile-interval:PT15M}",
+            fixedDelayString = "${unread.reconcile-interval:PT15M}"
+    )
+    public void reconcile() {
+
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        Map<String, Long> actual = new HashMap<>();
+        Aggregation recount = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("read").is(false)),
+                Aggregation.group("receiverId").count().as("count")
+        );
+        try (Stream<UnreadTotal> totals = mongoTemplate
+                .aggregateStream(recount, Notification.class, UnreadTotal.class)) {
+            totals.forEach(t -> actual.put(t.id(), t.count()));
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, UnreadCounter.class);
+        int repaired = 0;
+
+        Query stale = new Query(Criteria.where("updatedAt").lt(startedAt));
+        try (Stream<UnreadCounter> counters = mongoTemplate.stream(stale, UnreadCounter.class)) {
+            for (UnreadCounter counter : (Iterable<UnreadCounter>) counters::iterator) {
+                long expected = actual.getOrDefault(counter.getUserId(), 0L);
+                if (counter.getCount() != expected) {
+                    bulk.updateOne(
+                            new Query(Criteria.where("userId").is(counter.getUserId())
+                                    .and("updatedAt").lt(startedAt)),
+                            new Update().set("count", expected).set("updatedAt", startedAt)
+                    );
+                    repaired++;
+                }
+            }
+        }
+
+        if (repaired > 0) {
+            bulk.execute();
+            synchronized (cache) {
+                cache.clear();
+            }
+            log.info("Unread counters reconciled: {} repaired", repaired);
+        }
+    }
+
+    private record Cached(long count, long loadedAt) {}
+
+    private record UnreadTotal(String id, long count) {}
+}
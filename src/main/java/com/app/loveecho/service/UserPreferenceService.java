@@ -3,7 +3,10 @@ package com.app.loveecho.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import com.app.loveecho.mongo.document.Story;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.app.loveecho.event.StoryEvent;
 import com.app.loveecho.mongo.document.UserPreference;
 import com.app.loveecho.mongo.repository.UserPreferenceRepository;
 
@@ -12,33 +15,44 @@ import com.app.loveecho.mongo.repository.UserPreferenceRepository;
 public class UserPreferenceService {
 
     private final UserPreferenceRepository repo;
+    private final PreferenceAccumulator accumulator;
+    private final PreferencePolicy policy;
+
+    public void recordInteractions(String username, List<StoryEvent> events) {
+
+        for (StoryEvent event : events) {
+            // Category +2, each hashtag +1, author +1 (buffered; flushed as a
+            // decayed, capped, version-guarded rewrite)
+            accumulator.add(
+                    username,
+                    event.category().name(),
+                    event.hashtags(),
+                    event.owner()
+            );
+        }
+    }
 
-    public void recordInteraction(String username, Story story) {
+    public UserPreference getPreferences(String username) {
 
-        UserPreference pref = repo.findByUserId(username)
-                .orElse(UserPreference.builder()
-                        .userId(username)
-                        .build());
+        UserPreference pref = repo.findByUserId(username).orElse(null);
+        PreferenceAccumulator.Delta pending = accumulator.pending(username);
 
-        // Category boost
-        pref.getCategoryScores()
-                .merge(story.getCategory().name(), 2, Integer::sum);
+        if (pref == null && pending == null) return null;
 
-        // Hashtag boost
-        if (story.getHashtags() != null) {
-            story.getHashtags().forEach(tag ->
-                pref.getHashtagScores().merge(tag, 1, Integer::sum)
-            );
+        if (pref == null) {
+            pref = UserPreference.builder().userId(username).build();
+        } else {
+            PreferenceAccumulator.unescapeKeys(pref);
         }
 
-        // Author boost
-        pref.getAuthorScores()
-                .merge(story.getUserId(), 1, Integer::sum);
+        // ⏳ lazy decay to now, then 🔄 increments still in the buffer
+        policy.decay(pref, LocalDateTime.now());
 
-        repo.save(pref);
-    }
+        if (pending != null) {
+            pending.applyTo(pref);
+            policy.trim(pref);
+        }
 
-    public UserPreference getPreferences(String username) {
-        return repo.findByUserId(username).orElse(null);
+        return pref;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,248 @@
+package com.app.loveecho.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.loveecho.config.SchedulingConfig;
+import com.app.loveecho.dto.UserSearchDTO;
+import com.app.loveecho.jpa.entity.User;
+import com.app.loveecho.jpa.repository.UserRepository;
+import com.app.loveecho.mongo.repository.StoryRepository;
+import com.app.loveecho.mongo.repository.StoryRepositoryCustom.AuthorCount;
+import com.app.loveecho.search.UserEntry;
+import com.app.loveecho.search.UsernameIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 🔎 People search by username prefix, answered from memory.
+// The base is an immutable UsernameIndex (sorted arrays) loaded with a
+// streaming query. Registrations and profile changes go to a small sorted
+// delta (lower-cased username -> entry, null entry = removed) that
+// overrides the base on reads and is folded into a new base in the
+// background. Results rank by public story count, refreshed on rebuild.
+// Usernames are unique case-insensitively (MySQL collation), so the
+// lower-cased name is a safe key.
+@Service
+@Slf4j
+public class UserSearchService {
+
+    public static final int MAX_RESULTS = 20;
+    public static final int MAX_PREFIX_LENGTH = 50;
+
+    private final UserRepository userRepository;
+    private final StoryRepository storyRepository;
+    private final TransactionTemplate readOnly;
+    private final int maxScan;
+    private final int compactThreshold;
+
+    private final ConcurrentSkipListMap<String, Pending> delta = new ConcurrentSkipListMap<>();
+    private long seq; // guarded by delta
+
+    private volatile UsernameIndex index = UsernameIndex.EMPTY;
+
+    public UserSearchService(
+            UserRepository userRepository,
+            StoryRepository storyRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${user-search.max-scan:2000}") int maxScan,
+            @Value("${user-search.compact-threshold:1000}") int compactThreshold
+    ) {
+        this.userRepository = userRepository;
+        this.storyRepository = storyRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.maxScan = maxScan;
+        this.compactThreshold = compactThreshold;
+    }
+
+    /* =========================
+       WRITES
+    ========================== */
+    // After a user row is saved; previousUsername is null on registration
+    public void recordChange(String previousUsername, User user) {
+
+        String key = UsernameIndex.key(user.getUsername());
+        UserEntry entry = new UserEntry(user.getId(), user.getUsername(), user.getProfileImageUrl());
+
+        synchronized (delta) {
+            String previousKey = previousUsername == null ? key : UsernameIndex.key(previousUsername);
+            int stories = storyCount(previousKey);
+
+            if (!previousKey.equals(key)) {
+                delta.put(previousKey, new Pending(++seq, null, 0)); // renamed away
+            }
+            delta.put(key, new Pending(++seq, entry, stories));
+        }
+    }
+
+    private int storyCount(String key) {
+        Pending pending = delta.get(key);
+        if (pending != null) return pending.storyCount();
+
+        UsernameIndex base = index;
+        int row = base.find(key);
+        return row < 0 ? 0 : base.storyCount(row);
+    }
+
+    /* =========================
+       READS
+    ========================== */
+    // At most maxScan base rows (or the precomputed leaders of a wide
+    // prefix) plus the delta entries under the prefix
+    public List<UserSearchDTO> search(String rawPrefix, int limit) {
+
+        String prefix = normalize(rawPrefix);
+        if (prefix == null) return List.of();
+
+        int size = Math.max(1, Math.min(limit, MAX_RESULTS));
+        UsernameIndex base = index;
+        NavigableMap<String, Pending> recent =
+                delta.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+        Comparator<Candidate> weakestFirst = Comparator
+                .comparingInt(Candidate::storyCount)
+                .thenComparing(Candidate::key, Comparator.reverseOrder());
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(weakestFirst);
+
+        int from = base.from(prefix);
+        int to = base.to(prefix, from);
+        int[] leaders = to - from > maxScan ? base.leaders(prefix) : null;
+
+        if (leaders != null) {
+            for (int row : leaders) offer(heap, size, base, row, recent);
+        } else {
+            for (int row = from; row < Math.min(to, from + maxScan); row++) offer(heap, size, base, row, recent);
+        }
+
+        for (Map.Entry<String, Pending> e : recent.entrySet()) {
+            Pending p = e.getValue();
+            if (p.entry() == null) continue;
+            heap.offer(new Candidate(e.getKey(), p.entry(), p.storyCount()));
+            if (heap.size() > size) heap.poll();
+        }
+
+        List<Candidate> best = new ArrayList<>(heap);
+        best.sort(weakestFirst.reversed());
+
+        return best.stream()
+                .map(c -> UserSearchDTO.builder()
+                        .id(c.entry().id())
+                        .username(c.entry().username())
+                        .profileImageUrl(c.entry().profileImageUrl())
+                        .storyCount(c.storyCount())
+                        .build())
+                .toList();
+    }
+
+    // base rows shadowed by a delta entry are answered from the delta
+    private static void offer(PriorityQueue<Candidate> heap, int size, UsernameIndex base,
+                              int row, NavigableMap<String, Pending> recent) {
+        String key = base.key(row);
+        if (recent.containsKey(key)) return;
+
+        heap.offer(new Candidate(key, base.entry(row), base.storyCount(row)));
+        if (heap.size() > size) heap.poll();
+    }
+
+    private static String normalize(String raw) {
+        if (raw == null) return null;
+
+        String prefix = raw.strip();
+        if (prefix.startsWith("@")) prefix = prefix.substring(1);
+        if (prefix.isEmpty() || prefix.length() > MAX_PREFIX_LENGTH) return null;
+
+        return prefix.toLowerCase(Locale.ROOT);
+    }
+
+    /* =========================
+       REBUILD / COMPACTION
+    ========================== */
+    // Full reload: user rows streamed from MySQL, story counts from Mongo
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            initialDelayString = "${user-search.rebuild-interval:PT1H}",
+            fixedDelayString = "${user-search.rebuild-interval:PT1H}"
+    )
+    public synchronized void rebuild() {
+
+        long mark = mark(); // writes up to here are committed, so the stream sees them
+
+        Map<String, Integer> counts = new HashMap<>();
+        try (Stream<AuthorCount> rows = storyRepository.streamPublicCountsByAuthor()) {
+            rows.forEach(c -> counts.put(c.userId(), c.stories()));
+        }
+
+        List<UserEntry> entries = new ArrayList<>();
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<UserEntry> rows = userRepository.streamDirectory()) {
+                rows.forEach(entries::add);
+            }
+        });
+
+        index = UsernameIndex.build(entries, counts, maxScan, MAX_RESULTS);
+        delta.values().removeIf(p -> p.seq() <= mark);
+
+        log.info("Username index rebuilt: {} users", entries.size());
+    }
+
+    // Folds the delta into a new base without touching the databases. The
+    // rebuild is O(n log n), so it waits until the delta is big enough to
+    // slow reads; smaller deltas are folded by the hourly rebuild anyway.
+    @Scheduled(
+            scheduler = SchedulingConfig.BULK_JOBS,
+            fixedDelayString = "${user-search.compact-interval:PT1M}"
+    )
+    public synchronized void compact() {
+
+        if (delta.size() < compactThreshold) return;
+
+        long mark = mark();
+        UsernameIndex base = index;
+
+        List<UserEntry> entries = new ArrayList<>(base.size() + delta.size());
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int row = 0; row < base.size(); row++) {
+            if (delta.containsKey(base.key(row))) continue;
+            UserEntry entry = base.entry(row);
+            entries.add(entry);
+            counts.put(entry.username(), base.storyCount(row));
+        }
+        // newer entries (seq > mark) stay in the delta and keep shadowing
+        delta.values().forEach(p -> {
+            if (p.seq() > mark || p.entry() == null) return;
+            entries.add(p.entry());
+            counts.put(p.entry().username(), p.storyCount());
+        });
+
+        index = UsernameIndex.build(entries, counts, maxScan, MAX_RESULTS);
+        delta.values().removeIf(p -> p.seq() <= mark);
+    }
+
+    private long mark() {
+        synchronized (delta) {
+            return seq;
+        }
+    }
+
+    private record Pending(long seq, UserEntry entry, int storyCount) {}
+
+    private record Candidate(String key, UserEntry entry, int storyCount) {}
+}
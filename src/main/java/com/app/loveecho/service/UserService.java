@@ -23,6 +23,9 @@ public class UserService {
     @Autowired
     private CloudinaryService cloudinaryService;
 
+    @Autowired
+    private UserSearchService userSearchService;
+
     // Register a new user
     public User registerUser(User user) {
 
@@ -39,7 +42,10 @@ public class UserService {
 
         // Hash password before saving
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        userSearchService.recordChange(null, saved);
+        return saved;
     }
 
     // Find user by username
@@ -58,6 +64,8 @@ public class UserService {
 
     public User updateProfile(User user, UpdateProfileRequest request) {
 
+        String previousUsername = user.getUsername();
+
         if (request.getUsername() != null && !request.getUsername().isBlank()) {
             user.setUsername(request.getUsername());
         }
@@ -70,7 +78,10 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        userSearchService.recordChange(previousUsername, saved);
+        return saved;
     }
 
     public User updateProfilePicture(User user, MultipartFile file) {
@@ -86,7 +97,10 @@ public class UserService {
         user.setProfileImageUrl(uploadResult.get("url"));
         user.setProfileImagePublicId(uploadResult.get("publicId"));
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        userSearchService.recordChange(saved.getUsername(), saved);
+        return saved;
     }
 
     public void savePushToken(String username, String token) {
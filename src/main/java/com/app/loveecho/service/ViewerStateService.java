@@ -0,0 +1,86 @@
+package com.app.loveecho.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import com.app.loveecho.dto.CursorPage;
+import com.app.loveecho.dto.StoryResponseDTO;
+import com.app.loveecho.dto.StorySummaryDTO;
+import com.app.loveecho.jpa.entity.ReactionType;
+import com.app.loveecho.jpa.repository.BookmarkRepository;
+import com.app.loveecho.mongo.document.Reaction;
+import com.app.loveecho.mongo.repository.ReactionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 👀 reactedByMe / myReactionType / bookmarkedByMe for the current viewer.
+// A page costs one bookmark IN query and one reaction IN query, whatever its size.
+@Service
+@RequiredArgsConstructor
+public class ViewerStateService {
+
+    private final BookmarkRepository bookmarkRepository;
+    private final ReactionRepository reactionRepository;
+
+    public CursorPage<StorySummaryDTO> apply(
+            CursorPage<StorySummaryDTO> page,
+            Authentication authentication
+    ) {
+        if (authentication != null && !page.getContent().isEmpty()) {
+            apply(page.getContent(), authentication.getName());
+        }
+        return page;
+    }
+
+    public StoryResponseDTO apply(StoryResponseDTO story, Authentication authentication) {
+
+        if (authentication == null) return story;
+
+        ViewerState state = load(authentication.getName(), Set.of(story.getId()));
+        story.setBookmarkedByMe(state.bookmarked().contains(story.getId()));
+
+        ReactionType reaction = state.reactions().get(story.getId());
+        story.setReactedByMe(reaction != null);
+        story.setMyReactionType(reaction);
+
+        return story;
+    }
+
+    private void apply(List<StorySummaryDTO> stories, String username) {
+
+        Set<String> ids = new HashSet<>();
+        stories.forEach(story -> ids.add(story.getId()));
+
+        ViewerState state = load(username, ids);
+
+        for (StorySummaryDTO story : stories) {
+            story.setBookmarkedByMe(state.bookmarked().contains(story.getId()));
+
+            ReactionType reaction = state.reactions().get(story.getId());
+            story.setReactedByMe(reaction != null);
+            story.setMyReactionType(reaction);
+        }
+    }
+
+    private ViewerState load(String username, Set<String> storyIds) {
+
+        Set<String> bookmarked = new HashSet<>(
+                bookmarkRepository.findBookmarkedStoryIds(username, storyIds)
+        );
+
+        Map<String, ReactionType> reactions = new HashMap<>();
+        for (Reaction reaction : reactionRepository.findByUserIdAndStoryIdIn(username, storyIds)) {
+            reactions.put(reaction.getStoryId(), reaction.getType());
+        }
+
+        return new ViewerState(bookmarked, reactions);
+    }
+
+    private record ViewerState(Set<String> bookmarked, Map<String, ReactionType> reactions) {}
+}
@@ -0,0 +1,80 @@
+package com.app.loveecho.sketch;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Count-Min Sketch: depth rows of width counters, fixed memory whatever the
+// number of distinct keys. Estimates never undercount; they overcount by at
+// most ~2N/width with high probability. Linear, so sketches of time buckets
+// can be added to / subtracted from a running window sum.
+// Not thread-safe.
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width; // power of two
+    private final int[] counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new int[depth * width];
+    }
+
+    public void add(String key, int count) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + ((h1 + row * h2) & (width - 1))] += count;
+        }
+    }
+
+    public int estimate(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + ((h1 + row * h2) & (width - 1))]);
+        }
+        return Math.max(0, min);
+    }
+
+    // this += sign * other (same dimensions)
+    public void merge(CountMinSketch other, int sign) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += sign * other.counters[i];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(counters, 0);
+    }
+
+    /* ---------- snapshots ---------- */
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(counters.length * Integer.BYTES);
+        buffer.asIntBuffer().put(counters);
+        return buffer.array();
+    }
+
+    // false (and left untouched) when the bytes are from another shape
+    public boolean load(byte[] bytes) {
+        if (bytes == null || bytes.length != counters.length * Integer.BYTES) return false;
+        ByteBuffer.wrap(bytes).asIntBuffer().get(counters);
+        return true;
+    }
+
+    // 64-bit finaliser (SplitMix64) so weak String hashes spread over both halves
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.loveecho.sketch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Space-Saving heavy hitters: at most `capacity` monitored keys. A new key
+// replaces the smallest one and inherits its count as error, so any key
+// with a true count above N/capacity is guaranteed to be monitored.
+// Not thread-safe.
+public final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, long[]> counts; // key → {count, error}
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counts = new HashMap<>(capacity * 2);
+    }
+
+    public void add(String key, int weight) {
+
+        long[] entry = counts.get(key);
+        if (entry != null) {
+            entry[0] += weight;
+            return;
+        }
+
+        if (counts.size() < capacity) {
+            counts.put(key, new long[] { weight, 0 });
+            return;
+        }
+
+        // evict the minimum; O(capacity), only when an unmonitored key arrives
+        String minKey = null;
+        long min = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> e : counts.entrySet()) {
+            if (e.getValue()[0] < min) {
+                min = e.getValue()[0];
+                minKey = e.getKey();
+            }
+        }
+        counts.remove(minKey);
+        counts.put(key, new long[] { min + weight, min });
+    }
+
+    public List<Counter> counters() {
+        List<Counter> out = new ArrayList<>(counts.size());
+        counts.forEach((key, entry) -> out.add(new Counter(key, entry[0], entry[1])));
+        return out;
+    }
+
+    public void load(List<Counter> counters) {
+        counts.clear();
+        for (Counter c : counters) {
+            if (counts.size() == capacity) break;
+            counts.put(c.key(), new long[] { c.count(), c.error() });
+        }
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    public record Counter(String key, long count, long error) {}
+}
@@ -0,0 +1,108 @@
+package com.app.loveecho.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class CooccurrenceGraphTest {
+
+    @Test
+    void internGivesStableDenseIds() {
+        CooccurrenceGraph graph = new CooccurrenceGraph();
+
+        int love = graph.intern("love");
+        int rain = graph.intern("rain");
+
+        assertThat(love).isZero();
+        assertThat(rain).isEqualTo(1);
+        assertThat(graph.intern("love")).isEqualTo(love);
+        assertThat(graph.idOf("rain")).isEqualTo(rain);
+        assertThat(graph.idOf("unseen")).isEqualTo(-1);
+        assertThat(graph.tagOf(rain)).isEqualTo("rain");
+        assertThat(graph.size()).isEqualTo(2);
+    }
+
+    @Test
+    void linkIsSymmetricAndTracksStrength() {
+        CooccurrenceGraph graph = new CooccurrenceGraph();
+        int a = graph.intern("a");
+        int b = graph.intern("b");
+        int c = graph.intern("c");
+
+        graph.link(a, b, 2f);
+        graph.link(a, c, 1f);
+        graph.link(a, a, 5f); // self-loops are ignored
+
+        assertThat(edges(graph, a)).containsOnly(Map.entry(b, 2f), Map.entry(c, 1f));
+        assertThat(edges(graph, b)).containsOnly(Map.entry(a, 2f));
+        assertThat(graph.strength(a)).isEqualTo(3f);
+        assertThat(graph.strength(b)).isEqualTo(2f);
+    }
+
+    @Test
+    void removalFloorsAtZeroAndHidesTheEdge() {
+        CooccurrenceGraph graph = new CooccurrenceGraph();
+        int a = graph.intern("a");
+        int b = graph.intern("b");
+
+        graph.link(a, b, 1f);
+        graph.link(a, b, -3f);
+
+        assertThat(edges(graph, a)).isEmpty();
+        assertThat(graph.strength(a)).isZero();
+        assertThat(graph.strength(b)).isZero();
+
+        // removing an edge that never existed changes nothing
+        graph.link(a, graph.intern("c"), -1f);
+        assertThat(graph.edgesOf(a).size()).isEqualTo(1);
+        assertThat(graph.strength(a)).isZero();
+    }
+
+    @Test
+    void scaleMultipliesWeightsAndStrength() {
+        CooccurrenceGraph graph = new CooccurrenceGraph();
+        int a = graph.intern("a");
+        int b = graph.intern("b");
+        graph.link(a, b, 8f);
+
+        graph.scale(0.25f);
+
+        assertThat(edges(graph, a)).containsOnly(Map.entry(b, 2f));
+        assertThat(graph.strength(b)).isEqualTo(2f);
+    }
+
+    @Test
+    void edgesGrowPastTheirInitialCapacity() {
+        CooccurrenceGraph.Edges edges = new CooccurrenceGraph.Edges();
+
+        for (int key = 0; key < 1000; key++) {
+            assertThat(edges.add(key, key + 1f)).isEqualTo(key + 1f);
+        }
+        edges.add(500, 10f);
+
+        Map<Integer, Float> seen = new HashMap<>();
+        edges.forEach(seen::put);
+
+        assertThat(edges.size()).isEqualTo(1000);
+        assertThat(seen).hasSize(1000).containsEntry(0, 1f).containsEntry(500, 511f).containsEntry(999, 1000f);
+    }
+
+    @Test
+    void addReturnsTheChangeActuallyApplied() {
+        CooccurrenceGraph.Edges edges = new CooccurrenceGraph.Edges();
+
+        assertThat(edges.add(7, 2f)).isEqualTo(2f);
+        assertThat(edges.add(7, -5f)).isEqualTo(-2f);
+        assertThat(edges.add(8, -1f)).isZero();
+        assertThat(edges.size()).isEqualTo(1);
+    }
+
+    private static Map<Integer, Float> edges(CooccurrenceGraph graph, int id) {
+        Map<Integer, Float> out = new HashMap<>();
+        graph.edgesOf(id).forEach(out::put);
+        return out;
+    }
+}
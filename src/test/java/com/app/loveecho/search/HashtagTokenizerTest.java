@@ -0,0 +1,63 @@
+package com.app.loveecho.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HashtagTokenizerTest {
+
+    @Test
+    void tagEndsAtPunctuationAndWhitespace() {
+        assertThat(HashtagTokenizer.extract("#love, #miss!\n#hope\tend #night."))
+                .containsExactly("love", "miss", "hope", "night");
+    }
+
+    @Test
+    void tagsAfterNewlinesAreFound() {
+        assertThat(HashtagTokenizer.extract("first line\n#second\n\n#third"))
+                .containsExactly("second", "third");
+    }
+
+    @Test
+    void hashGluedToAWordIsNotATag() {
+        assertThat(HashtagTokenizer.extract("I write c# and go to page#top")).isEmpty();
+    }
+
+    @Test
+    void bareNumbersAreNotTags() {
+        assertThat(HashtagTokenizer.extract("we were #1 in #2024 on #day1"))
+                .containsExactly("day1");
+    }
+
+    @Test
+    void lowerCasedDeduplicatedInFirstSeenOrder() {
+        assertThat(HashtagTokenizer.extract("#Love #rain #LOVE #love_story"))
+                .containsExactly("love", "rain", "love_story");
+    }
+
+    @Test
+    void keepsOtherScripts() {
+        assertThat(HashtagTokenizer.extract("#प्यार #amor")).containsExactly("प्यार", "amor");
+    }
+
+    @Test
+    void capsTagLengthAndTagsPerStory() {
+        String longTag = "x".repeat(HashtagTokenizer.MAX_LENGTH + 5);
+        assertThat(HashtagTokenizer.extract("#" + longTag))
+                .containsExactly("x".repeat(HashtagTokenizer.MAX_LENGTH));
+
+        StringBuilder many = new StringBuilder();
+        for (int i = 0; i < HashtagTokenizer.MAX_PER_STORY + 10; i++) many.append("#t").append(i).append(' ');
+        assertThat(HashtagTokenizer.extract(many.toString())).hasSize(HashtagTokenizer.MAX_PER_STORY);
+    }
+
+    @Test
+    void normalizeAcceptsTypedTagsAndRejectsInvalidOnes() {
+        assertThat(HashtagTokenizer.normalize(" #Love ")).isEqualTo("love");
+        assertThat(HashtagTokenizer.normalize("##rain")).isEqualTo("rain");
+        assertThat(HashtagTokenizer.normalize("123")).isNull();
+        assertThat(HashtagTokenizer.normalize("two words")).isNull();
+        assertThat(HashtagTokenizer.normalize("#")).isNull();
+        assertThat(HashtagTokenizer.normalize(null)).isNull();
+    }
+}
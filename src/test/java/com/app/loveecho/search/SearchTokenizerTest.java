@@ -0,0 +1,45 @@
+package com.app.loveecho.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SearchTokenizerTest {
+
+    @Test
+    void splitsOnNonWordCharactersAndLowerCases() {
+        assertThat(SearchTokenizer.tokenize("Missing You, #Love\nforever!"))
+                .containsExactly("missing", "love", "forever");
+    }
+
+    @Test
+    void dropsStopWordsAndSingleCharacters() {
+        assertThat(SearchTokenizer.tokenize("I miss the way it was x"))
+                .containsExactly("miss", "way");
+    }
+
+    @Test
+    void normalizesCompatibilityForms() {
+        // full-width letters fold to ASCII under NFKC
+        assertThat(SearchTokenizer.tokenize("ＬＯＶＥ")).containsExactly("love");
+    }
+
+    @Test
+    void keepsCombiningMarksInsideWords() {
+        assertThat(SearchTokenizer.tokenize("मेरा प्यार")).containsExactly("मेरा", "प्यार");
+    }
+
+    @Test
+    void truncatesVeryLongTerms() {
+        String term = "a".repeat(SearchTokenizer.MAX_LENGTH + 10);
+
+        assertThat(SearchTokenizer.tokenize(term))
+                .containsExactly("a".repeat(SearchTokenizer.MAX_LENGTH));
+    }
+
+    @Test
+    void nullOrEmptyGivesNoTerms() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.tokenize("")).isEmpty();
+    }
+}
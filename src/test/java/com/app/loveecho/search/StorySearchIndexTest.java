@@ -0,0 +1,140 @@
+package com.app.loveecho.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.app.loveecho.jpa.entity.StoryCategory;
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.mongo.document.Story;
+import com.app.loveecho.mongo.repository.StoryRepository;
+
+class StorySearchIndexTest {
+
+    private StoryRepository storyRepository;
+    private StorySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        storyRepository = mock(StoryRepository.class);
+        index = new StorySearchIndex(storyRepository, 2.0f, 1000);
+    }
+
+    @Test
+    void ranksRareTermsAndTitleHitsFirst() {
+        index.index(story("1", "Rain", "we walked in the rain and talked"));
+        index.index(story("2", "Coffee", "rain rain rain everywhere, coffee too"));
+        index.index(story("3", "Letters", "I never sent the letters about the rain"));
+        index.index(story("4", "Letters again", "sent"));
+
+        // "letters" is rarer than "rain" and is in two titles
+        assertThat(index.search("rain letters", null, 0, 10).ids())
+                .startsWith("3")
+                .containsExactlyInAnyOrder("1", "2", "3", "4");
+
+        // the title match outweighs repeats in the body
+        assertThat(index.search("coffee", null, 0, 10).ids()).containsExactly("2");
+    }
+
+    @Test
+    void pagesWithOffsetAndCountsTotal() {
+        for (int i = 0; i < 5; i++) {
+            index.index(story("s" + i, "night", "night ".repeat(i + 1)));
+        }
+
+        StorySearchIndex.Hits first = index.search("night", null, 0, 2);
+        StorySearchIndex.Hits second = index.search("night", null, 2, 2);
+
+        assertThat(first.total()).isEqualTo(5);
+        assertThat(first.ids()).hasSize(2);
+        assertThat(second.ids()).hasSize(2).doesNotContainAnyElementsOf(first.ids());
+    }
+
+    @Test
+    void boundsTheHeapAtMaxResults() {
+        StorySearchIndex capped = new StorySearchIndex(storyRepository, 2.0f, 3);
+        for (int i = 0; i < 5; i++) {
+            capped.index(story("s" + i, "night", "night"));
+        }
+
+        assertThat(capped.search("night", null, 0, 10).ids()).hasSize(3);
+        assertThat(capped.search("night", null, 3, 10).ids()).isEmpty();
+        assertThat(capped.search("night", null, 3, 10).total()).isEqualTo(5);
+    }
+
+    @Test
+    void categoryFiltersHitsButFacetsCountEveryMatch() {
+        index.index(story("1", "home", "home", StoryCategory.GENERAL));
+        index.index(story("2", "home", "home", StoryCategory.GENERAL));
+        index.index(story("3", "home", "home", StoryCategory.values()[1]));
+
+        StorySearchIndex.Hits hits = index.search("home", StoryCategory.values()[1], 0, 10);
+
+        assertThat(hits.ids()).containsExactly("3");
+        assertThat(hits.facets())
+                .containsEntry(StoryCategory.GENERAL, 2)
+                .containsEntry(StoryCategory.values()[1], 1);
+    }
+
+    @Test
+    void editsAndPrivateStoriesTombstoneTheOldDoc() {
+        index.index(story("1", "ocean", "the ocean at night"));
+        index.index(story("1", "mountains", "the mountains at dawn"));
+
+        assertThat(index.search("ocean", null, 0, 10).ids()).isEmpty();
+        assertThat(index.search("mountains", null, 0, 10).ids()).containsExactly("1");
+
+        Story hidden = story("1", "mountains", "the mountains at dawn");
+        hidden.setVisibility(Visibility.PRIVATE);
+        index.index(hidden);
+
+        assertThat(index.search("mountains", null, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void rebuildReplaysWritesMadeWhileStreaming() {
+        index.index(story("old", "stale", "stale entry"));
+
+        // while the rebuild streams, one story is added and one removed
+        when(storyRepository.streamPublicText()).thenReturn(Stream.of(
+                story("a", "garden", "a quiet garden"),
+                story("b", "garden", "another garden")
+        ).peek(s -> {
+            if (s.getId().equals("a")) {
+                index.index(story("c", "garden", "a garden written mid-rebuild"));
+                index.remove("b");
+            }
+        }));
+
+        index.rebuild();
+
+        assertThat(index.search("garden", null, 0, 10).ids()).containsExactlyInAnyOrder("a", "c");
+        assertThat(index.search("stale", null, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void emptyQueryFindsNothing() {
+        index.index(story("1", "anything", "anything at all"));
+
+        assertThat(index.search("the and of", null, 0, 10).ids()).isEmpty();
+    }
+
+    private static Story story(String id, String title, String content) {
+        return story(id, title, content, StoryCategory.GENERAL);
+    }
+
+    private static Story story(String id, String title, String content, StoryCategory category) {
+        return Story.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .category(category)
+                .visibility(Visibility.PUBLIC)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.app.loveecho.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class UsernameIndexTest {
+
+    @Test
+    void sortsRowsByLowerCasedUsername() {
+        UsernameIndex index = UsernameIndex.build(
+                users("Zoe", "alice", "Bob", "ALINA"), Map.of("Bob", 3), 100, 5);
+
+        assertThat(keys(index)).containsExactly("alice", "alina", "bob", "zoe");
+        assertThat(index.entry(2).username()).isEqualTo("Bob");
+        assertThat(index.storyCount(2)).isEqualTo(3);
+        assertThat(index.storyCount(0)).isZero();
+    }
+
+    @Test
+    void prefixMapsToARowRange() {
+        UsernameIndex index = UsernameIndex.build(
+                users("al", "alice", "alina", "bob", "albert"), Map.of(), 100, 5);
+
+        int from = index.from("ali");
+        int to = index.to("ali", from);
+
+        assertThat(keys(index).subList(from, to)).containsExactly("alice", "alina");
+        assertThat(index.to("al", index.from("al")) - index.from("al")).isEqualTo(4);
+
+        int missing = index.from("c");
+        assertThat(missing).isEqualTo(index.size());
+        assertThat(index.to("c", missing)).isEqualTo(missing);
+    }
+
+    @Test
+    void findsExactKeysOnly() {
+        UsernameIndex index = UsernameIndex.build(users("Alice", "bob"), Map.of(), 100, 5);
+
+        assertThat(index.find("alice")).isZero();
+        assertThat(index.find("Alice")).isEqualTo(-1);
+        assertThat(index.find("ali")).isEqualTo(-1);
+    }
+
+    @Test
+    void leadersOnlyForRangesWiderThanMaxScan() {
+        List<UserEntry> entries = new ArrayList<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(entry("a" + i));
+            counts.put("a" + i, i);
+        }
+        entries.add(entry("b0"));
+
+        UsernameIndex index = UsernameIndex.build(entries, counts, 5, 3);
+
+        assertThat(names(index, index.leaders(""))).containsExactly("a9", "a8", "a7");
+        assertThat(names(index, index.leaders("a"))).containsExactly("a9", "a8", "a7");
+        assertThat(index.leaders("b")).isNull();
+        assertThat(index.leaders("a1")).isNull();
+    }
+
+    @Test
+    void leadersBreakTiesAlphabetically() {
+        UsernameIndex index = UsernameIndex.build(
+                users("dd", "cc", "bb", "aa", "ee"), Map.of("ee", 1), 2, 3);
+
+        assertThat(names(index, index.leaders(""))).containsExactly("ee", "aa", "bb");
+    }
+
+    @Test
+    void nestedWidePrefixesAndThePrefixItselfAsAUsername() {
+        List<UserEntry> entries = new ArrayList<>();
+        Map<String, Integer> counts = new HashMap<>();
+        entries.add(entry("lo"));
+        counts.put("lo", 100);
+        for (int i = 0; i < 6; i++) {
+            entries.add(entry("lov" + i));
+            counts.put("lov" + i, i);
+        }
+        entries.add(entry("lx"));
+
+        UsernameIndex index = UsernameIndex.build(entries, counts, 4, 2);
+
+        assertThat(names(index, index.leaders("l"))).containsExactly("lo", "lov5");
+        assertThat(names(index, index.leaders("lo"))).containsExactly("lo", "lov5");
+        assertThat(names(index, index.leaders("lov"))).containsExactly("lov5", "lov4");
+        assertThat(index.leaders("lx")).isNull();
+    }
+
+    @Test
+    void emptyIndexAnswersEveryLookup() {
+        UsernameIndex index = UsernameIndex.EMPTY;
+
+        assertThat(index.size()).isZero();
+        assertThat(index.find("a")).isEqualTo(-1);
+        assertThat(index.from("a")).isZero();
+        assertThat(index.to("a", 0)).isZero();
+        assertThat(index.leaders("")).isNull();
+    }
+
+    private static List<UserEntry> users(String... usernames) {
+        return Arrays.stream(usernames).map(UsernameIndexTest::entry).toList();
+    }
+
+    private static UserEntry entry(String username) {
+        return new UserEntry((long) username.hashCode(), username, null);
+    }
+
+    private static List<String> keys(UsernameIndex index) {
+        List<String> keys = new ArrayList<>();
+        for (int row = 0; row < index.size(); row++) keys.add(index.key(row));
+        return keys;
+    }
+
+    private static List<String> names(UsernameIndex index, int[] rows) {
+        return Arrays.stream(rows).mapToObj(row -> index.entry(row).username()).toList();
+    }
+}
@@ -0,0 +1,110 @@
+package com.app.loveecho.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.app.loveecho.dto.PageCursor;
+import com.app.loveecho.jpa.entity.StoryCategory;
+import com.app.loveecho.jpa.entity.Visibility;
+import com.app.loveecho.mongo.document.StorySummary;
+import com.app.loveecho.mongo.repository.StoryRepository;
+
+class FeedServiceTest {
+
+    private final Map<String, StorySummary> stored = new HashMap<>();
+
+    private StoryRepository storyRepository;
+    private FeedService feed;
+
+    @BeforeEach
+    void setUp() {
+        storyRepository = mock(StoryRepository.class);
+        TrendingService trending = new TrendingService(storyRepository, Duration.ofDays(7), 10, 100, 1.8, 2);
+        feed = new FeedService(storyRepository, trending, 100, 200, 10, Duration.ofMinutes(10));
+
+        List<StorySummary> recent = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            recent.add(summary("s" + i, 10 - i));
+        }
+        stored.putAll(recent.stream().collect(Collectors.toMap(StorySummary::getId, Function.identity())));
+
+        when(storyRepository.findSummaries(any(Criteria.class), nullable(PageCursor.class), anyInt()))
+                .thenReturn(recent);
+        when(storyRepository.findSummariesByIds(anyCollection())).thenAnswer(call -> {
+            Collection<String> ids = call.getArgument(0);
+            return ids.stream().map(stored::get).filter(s -> s != null).toList();
+        });
+    }
+
+    @Test
+    void laterPagesSliceTheRankingOfTheFirst() {
+        FeedService.Page first = feed.page("amy", () -> null, -1, 0, 2);
+
+        // a rerank now would put s4 on top
+        stored.get("s4").setReactionsCount(100);
+
+        FeedService.Page second = feed.page("amy", () -> null, first.version(), 2, 2);
+        FeedService.Page third = feed.page("amy", () -> null, first.version(), 4, 2);
+
+        assertThat(ids(first)).containsExactly("s0", "s1");
+        assertThat(ids(second)).containsExactly("s2", "s3");
+        assertThat(ids(third)).containsExactly("s4");
+        assertThat(first.last()).isFalse();
+        assertThat(third.last()).isTrue();
+
+        // candidate generation ran for the first page only
+        verify(storyRepository, times(1)).findSummaries(any(Criteria.class), nullable(PageCursor.class), anyInt());
+    }
+
+    @Test
+    void dropsStoriesMadePrivateAfterRanking() {
+        FeedService.Page first = feed.page("amy", () -> null, -1, 0, 2);
+        stored.get("s2").setVisibility(Visibility.PRIVATE);
+
+        assertThat(ids(feed.page("amy", () -> null, first.version(), 2, 2))).containsExactly("s3");
+    }
+
+    @Test
+    void unknownVersionRanksAfresh() {
+        FeedService.Page first = feed.page("amy", () -> null, -1, 0, 2);
+        FeedService.Page other = feed.page("amy", () -> null, first.version() + 1, 2, 2);
+
+        assertThat(other.version()).isNotEqualTo(first.version());
+        verify(storyRepository, times(2)).findSummaries(any(Criteria.class), nullable(PageCursor.class), anyInt());
+    }
+
+    private static List<String> ids(FeedService.Page page) {
+        return page.stories().stream().map(StorySummary::getId).toList();
+    }
+
+    private static StorySummary summary(String id, int reactions) {
+        StorySummary story = new StorySummary();
+        story.setId(id);
+        story.setVisibility(Visibility.PUBLIC);
+        story.setCategory(StoryCategory.values()[0]);
+        story.setReactionsCount(reactions);
+        story.setCreatedAt(LocalDateTime.now().minusDays(2));
+        return story;
+    }
+}
@@ -0,0 +1,109 @@
+package com.app.loveecho.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.app.loveecho.mongo.document.StorySummary;
+import com.app.loveecho.mongo.repository.StoryRepository;
+
+class TrendingServiceTest {
+
+    private final LocalDateTime hourAgo = LocalDateTime.now().minusHours(1);
+
+    private StoryRepository storyRepository;
+    private TrendingService trending;
+
+    @BeforeEach
+    void setUp() {
+        storyRepository = mock(StoryRepository.class);
+        trending = new TrendingService(storyRepository, Duration.ofDays(7), 10, 1000, 1.8, 2);
+    }
+
+    @Test
+    void reloadAddsStoredPointsToBumpsMadeWhileStreaming() {
+        trending.recordNewStory("a", hourAgo, 0);
+        trending.recordNewStory("b", hourAgo, 0);
+
+        // Mongo has a at 4 and b at 8; a gets +6 live while the cursor reads
+        when(storyRepository.streamPublicEngagement(any(), anyInt())).thenReturn(
+                Stream.of(summary("a", 2, 0), summary("b", 4, 0))
+                        .peek(s -> {
+                            if (s.getId().equals("b")) trending.recordEngagement("a", 6);
+                        }));
+
+        trending.reload();
+
+        assertThat(trending.current().page(0, 10)).containsExactly("a", "b");
+    }
+
+    @Test
+    void reloadKeepsStoriesAddedAndDropsStoriesRemovedWhileStreaming() {
+        trending.recordNewStory("stale", hourAgo, 0);
+        trending.recordNewStory("deleted", hourAgo, 0);
+
+        when(storyRepository.streamPublicEngagement(any(), anyInt())).thenReturn(
+                Stream.of(summary("deleted", 5, 0))
+                        .peek(s -> {
+                            trending.recordNewStory("fresh", LocalDateTime.now(), 0);
+                            trending.remove("deleted");
+                        }));
+
+        trending.reload();
+
+        assertThat(trending.current().page(0, 10)).containsExactly("fresh");
+    }
+
+    @Test
+    void pagesStayOnTheSnapshotTheyStartedFrom() {
+        trending.recordNewStory("a", hourAgo, 3);
+        trending.recordNewStory("b", hourAgo, 1);
+        trending.rerank();
+
+        TrendingService.Ranking first = trending.current();
+        assertThat(first.page(0, 1)).containsExactly("a");
+
+        trending.recordEngagement("b", 10);
+        trending.rerank();
+
+        assertThat(trending.current().version()).isGreaterThan(first.version());
+        assertThat(trending.current().page(0, 1)).containsExactly("b");
+        assertThat(trending.ranking(first.version()).page(1, 1)).containsExactly("b");
+    }
+
+    @Test
+    void unchangedOrderKeepsTheVersionAndExpiredVersionsFallBackToCurrent() {
+        trending.recordNewStory("a", hourAgo, 3);
+        trending.rerank();
+        long version = trending.current().version();
+
+        trending.rerank();
+        assertThat(trending.current().version()).isEqualTo(version);
+
+        for (int i = 0; i < 3; i++) {
+            trending.recordNewStory("s" + i, LocalDateTime.now(), 100 + i);
+            trending.rerank();
+        }
+
+        assertThat(trending.ranking(version)).isSameAs(trending.current());
+        assertThat(trending.ranking(-1)).isSameAs(trending.current());
+    }
+
+    private StorySummary summary(String id, int reactions, int comments) {
+        StorySummary story = new StorySummary();
+        story.setId(id);
+        story.setCreatedAt(hourAgo);
+        story.setReactionsCount(reactions);
+        story.setCommentsCount(comments);
+        return story;
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.loveecho.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    void neverUndercounts() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 500; i++) {
+            sketch.add("tag" + i, i % 7 + 1);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(sketch.estimate("tag" + i)).isGreaterThanOrEqualTo(i % 7 + 1);
+        }
+    }
+
+    @Test
+    void exactWhenThereAreNoCollisions() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        sketch.add("love", 5);
+        sketch.add("love", 2);
+        sketch.add("rain", 1);
+
+        assertThat(sketch.estimate("love")).isEqualTo(7);
+        assertThat(sketch.estimate("rain")).isEqualTo(1);
+        assertThat(sketch.estimate("unseen")).isZero();
+    }
+
+    @Test
+    void mergeAddsAndSubtractsBuckets() {
+        CountMinSketch window = new CountMinSketch(4, 1024);
+        CountMinSketch older = new CountMinSketch(4, 1024);
+        CountMinSketch newer = new CountMinSketch(4, 1024);
+        older.add("love", 3);
+        newer.add("love", 4);
+        newer.add("rain", 2);
+
+        window.merge(older, 1);
+        window.merge(newer, 1);
+        assertThat(window.estimate("love")).isEqualTo(7);
+
+        // the older bucket expires out of the running window
+        window.merge(older, -1);
+        assertThat(window.estimate("love")).isEqualTo(4);
+        assertThat(window.estimate("rain")).isEqualTo(2);
+    }
+
+    @Test
+    void estimateIsNeverNegative() {
+        CountMinSketch window = new CountMinSketch(2, 16);
+        CountMinSketch bucket = new CountMinSketch(2, 16);
+        bucket.add("love", 3);
+
+        window.merge(bucket, -1);
+
+        assertThat(window.estimate("love")).isZero();
+    }
+
+    @Test
+    void snapshotsRoundTripAndRejectOtherShapes() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        sketch.add("love", 9);
+
+        CountMinSketch restored = new CountMinSketch(4, 256);
+        assertThat(restored.load(sketch.toBytes())).isTrue();
+        assertThat(restored.estimate("love")).isEqualTo(9);
+
+        CountMinSketch other = new CountMinSketch(4, 128);
+        assertThat(other.load(sketch.toBytes())).isFalse();
+        assertThat(other.load(null)).isFalse();
+        assertThat(other.estimate("love")).isZero();
+    }
+
+    @Test
+    void clearResetsEveryCounter() {
+        CountMinSketch sketch = new CountMinSketch(4, 256);
+        sketch.add("love", 9);
+        sketch.clear();
+
+        assertThat(sketch.estimate("love")).isZero();
+    }
+
+    @Test
+    void widthMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new CountMinSketch(4, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.loveecho.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+    @Test
+    void countsExactlyWhileUnderCapacity() {
+        SpaceSaving top = new SpaceSaving(3);
+        top.add("love", 2);
+        top.add("rain", 1);
+        top.add("love", 3);
+
+        assertThat(top.counters()).containsExactlyInAnyOrder(
+                new SpaceSaving.Counter("love", 5, 0),
+                new SpaceSaving.Counter("rain", 1, 0));
+    }
+
+    @Test
+    void newKeyEvictsTheMinimumAndInheritsItAsError() {
+        SpaceSaving top = new SpaceSaving(2);
+        top.add("love", 5);
+        top.add("rain", 2);
+
+        top.add("night", 1);
+
+        assertThat(top.counters()).containsExactlyInAnyOrder(
+                new SpaceSaving.Counter("love", 5, 0),
+                new SpaceSaving.Counter("night", 3, 2));
+    }
+
+    @Test
+    void heavyHittersSurviveAStreamOfRareKeys() {
+        SpaceSaving top = new SpaceSaving(10);
+        for (int i = 0; i < 1000; i++) {
+            top.add("hot", 1);
+            top.add("rare" + i, 1);
+        }
+
+        // "hot" has 1000 of 2000 uses, far above N / capacity
+        SpaceSaving.Counter hot = top.counters().stream()
+                .filter(c -> c.key().equals("hot"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(hot.count() - hot.error()).isLessThanOrEqualTo(1000);
+        assertThat(hot.count()).isGreaterThanOrEqualTo(1000);
+        assertThat(top.counters()).hasSize(10);
+    }
+
+    @Test
+    void loadRestoresUpToCapacity() {
+        SpaceSaving top = new SpaceSaving(2);
+        top.load(List.of(
+                new SpaceSaving.Counter("a", 3, 1),
+                new SpaceSaving.Counter("b", 2, 0),
+                new SpaceSaving.Counter("c", 1, 0)));
+
+        assertThat(top.counters()).containsExactlyInAnyOrder(
+                new SpaceSaving.Counter("a", 3, 1),
+                new SpaceSaving.Counter("b", 2, 0));
+
+        top.clear();
+        assertThat(top.counters()).isEmpty();
+    }
+}